@@ -86,6 +86,42 @@ dependencies {
     }
 }
 
+// Test and Benchmark Setup
+// Both source sets share the main classpath, covering the parts of the library that do not require a running game
+val mainSourceSet: SourceSet = sourceSets.main.get()
+
+sourceSets {
+    test {
+        compileClasspath += mainSourceSet.compileClasspath
+        runtimeClasspath += mainSourceSet.runtimeClasspath
+    }
+    create("jmh") {
+        compileClasspath += mainSourceSet.output + mainSourceSet.compileClasspath
+        runtimeClasspath += mainSourceSet.output + mainSourceSet.runtimeClasspath
+    }
+}
+
+dependencies {
+    testImplementation(platform("org.junit:junit-bom:${"junit_version"()!!}"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:${"jmh_version"()!!}")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${"jmh_version"()!!}")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks, optionally filtered by the jmhIncludes property"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    "jmhIncludes"()?.let { args(it) }
+}
+
 // JSON to LANG Conversion Setup (Below 18w02a, 1.13)
 val mainResources = "$projectDir/src/main/resources"
 val generatedResources = "${layout.buildDirectory.asFile.get()}/generated-resources"
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link TrackedList}, modelling a bounded log list compared against an {@link ArrayList}
+ *
+ * @author CDAGaming
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrackedListBenchmark {
+    @Param({"1000", "100000"})
+    public int capacity;
+
+    private TrackedList<Object> trackedList;
+    private List<Object> arrayList;
+    private Object middle;
+
+    @Setup
+    public void setup() {
+        trackedList = new TrackedList<>();
+        arrayList = new ArrayList<>();
+        for (int i = 0; i < capacity; i++) {
+            final Object entry = new Object();
+            trackedList.add(entry);
+            arrayList.add(entry);
+        }
+        middle = trackedList.get(capacity / 2);
+    }
+
+    @Benchmark
+    public Object trackedAppendAndEvict() {
+        trackedList.add(new Object());
+        return trackedList.removeFirst();
+    }
+
+    @Benchmark
+    public Object arrayAppendAndEvict() {
+        arrayList.add(new Object());
+        return arrayList.removeFirst();
+    }
+
+    @Benchmark
+    public int trackedIndexOf() {
+        return trackedList.indexOf(middle);
+    }
+
+    @Benchmark
+    public int arrayIndexOf() {
+        return arrayList.indexOf(middle);
+    }
+}
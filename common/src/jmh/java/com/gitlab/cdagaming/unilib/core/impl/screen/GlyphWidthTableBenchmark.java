@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link StyledText} parsing, and {@link GlyphWidthTable} measuring and wrapping
+ *
+ * @author CDAGaming
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlyphWidthTableBenchmark {
+    private static final String TEXT = "§6§lUniLib§r provides §acommon utilities§r and §nscreen widgets§r, " +
+            "used to render formatted text that wraps across several lines within a tooltip or text display";
+
+    private GlyphWidthTable table;
+    private StyledText styledText;
+
+    @Setup
+    public void setup() {
+        table = new GlyphWidthTable(character -> character == '§' ? -1 : character == ' ' ? 4 : 6, 9, false);
+        styledText = StyledText.parse(TEXT);
+    }
+
+    @Benchmark
+    public StyledText parse() {
+        return StyledText.parse(TEXT);
+    }
+
+    @Benchmark
+    public int measureParsed() {
+        return table.getStringWidth(styledText);
+    }
+
+    @Benchmark
+    public int measureString() {
+        return table.getStringWidth(TEXT);
+    }
+
+    @Benchmark
+    public List<String> wrapParsed() {
+        return table.listFormattedStringToWidth(styledText, 150);
+    }
+}
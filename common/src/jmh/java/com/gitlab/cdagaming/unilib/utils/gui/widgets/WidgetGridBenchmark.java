@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui.widgets;
+
+import com.gitlab.cdagaming.unilib.utils.gui.integrations.ExtendedScreen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link WidgetGrid}, modelling a scrolling column of list rows
+ * <p>
+ * This covers the widget-index share of screen init, scrolling, hit-testing and a frame,
+ * as rendering and input dispatch themselves still require a running game instance
+ *
+ * @author CDAGaming
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WidgetGridBenchmark {
+    private static final int ROW_WIDTH = 200;
+    private static final int ROW_HEIGHT = 20;
+    private static final int ROW_SPACING = 22;
+
+    @Param({"10", "1000", "100000"})
+    public int elements;
+
+    private List<RowWidget> rows;
+    private WidgetGrid grid;
+    private final List<DynamicWidget> hovered = new ArrayList<>();
+    private int scrollDirection = -1;
+    private int scrolled = 0;
+
+    @Setup
+    public void setup() {
+        rows = new ArrayList<>(elements);
+        for (int i = 0; i < elements; i++) {
+            rows.add(new RowWidget(10, i * ROW_SPACING));
+        }
+        grid = createGrid(rows);
+    }
+
+    private static WidgetGrid createGrid(final List<RowWidget> rows) {
+        final WidgetGrid grid = new WidgetGrid();
+        for (RowWidget row : rows) {
+            grid.add(row);
+        }
+        return grid;
+    }
+
+    @Benchmark
+    public WidgetGrid screenInit() {
+        return createGrid(rows);
+    }
+
+    @Benchmark
+    public int scroll() {
+        // Alternate direction, so positions stay bounded across iterations
+        if (scrolled == 64 || scrolled == -64) {
+            scrollDirection = -scrollDirection;
+        }
+        scrolled += scrollDirection;
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).posY += scrollDirection;
+        }
+        grid.translate(0, scrollDirection);
+        grid.refresh();
+        return scrolled;
+    }
+
+    @Benchmark
+    public int hitTest() {
+        grid.collectWidgetsAt(50, (elements / 2) * ROW_SPACING + 5, hovered);
+        return hovered.size();
+    }
+
+    @Benchmark
+    public int frame() {
+        grid.refresh();
+        grid.collectWidgetsAt(50, (elements / 2) * ROW_SPACING + 5, hovered);
+        return hovered.size();
+    }
+
+    /**
+     * A list row with plain bounds and no rendering
+     */
+    private static final class RowWidget implements DynamicWidget {
+        private int posX, posY;
+
+        private RowWidget(final int posX, final int posY) {
+            this.posX = posX;
+            this.posY = posY;
+        }
+
+        @Override
+        public void preDraw(final ExtendedScreen screen) {
+        }
+
+        @Override
+        public void draw(final ExtendedScreen screen) {
+        }
+
+        @Override
+        public void postDraw(final ExtendedScreen screen) {
+        }
+
+        @Override
+        public int getControlPosX() {
+            return posX;
+        }
+
+        @Override
+        public void setControlPosX(final int posX) {
+            this.posX = posX;
+        }
+
+        @Override
+        public int getControlPosY() {
+            return posY;
+        }
+
+        @Override
+        public void setControlPosY(final int posY) {
+            this.posY = posY;
+        }
+
+        @Override
+        public int getControlWidth() {
+            return ROW_WIDTH;
+        }
+
+        @Override
+        public void setControlWidth(final int width) {
+        }
+
+        @Override
+        public int getControlHeight() {
+            return ROW_HEIGHT;
+        }
+
+        @Override
+        public void setControlHeight(final int height) {
+        }
+    }
+}
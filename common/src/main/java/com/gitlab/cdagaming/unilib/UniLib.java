@@ -29,6 +29,7 @@ import com.gitlab.cdagaming.unilib.core.utils.ModUpdaterUtils;
 import com.gitlab.cdagaming.unilib.impl.TranslationListener;
 import com.gitlab.cdagaming.unilib.impl.TranslationManager;
 import com.gitlab.cdagaming.unilib.utils.KeyUtils;
+import com.gitlab.cdagaming.unilib.utils.gui.RenderUtils;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import net.minecraft.client.Minecraft;
 
@@ -86,10 +87,20 @@ public class UniLib {
      */
     private static void init() {
         // Register Resource Reload Listeners
-        ModUtils.executeOnMainThread(() -> ModUtils.registerReloadListener(
-                CoreUtils.MOD_ID + ":translation_listener",
-                TranslationListener.INSTANCE
-        ));
+        ModUtils.executeOnMainThread(() -> {
+            ModUtils.registerReloadListener(
+                    CoreUtils.MOD_ID + ":translation_listener",
+                    TranslationListener.INSTANCE
+            );
+            ModUtils.registerReloadListener(
+                    CoreUtils.MOD_ID + ":font_listener",
+                    resourceManager -> RenderUtils.clearFontCaches()
+            );
+            ModUtils.registerReloadListener(
+                    CoreUtils.MOD_ID + ":item_icon_listener",
+                    resourceManager -> RenderUtils.clearItemIcons()
+            );
+        });
 
         if (ModUtils.RAW_TRANSLATOR != null) {
             TranslationListener.INSTANCE.addModule("minecraft", new TranslationManager(
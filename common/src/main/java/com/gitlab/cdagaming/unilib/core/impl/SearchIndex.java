@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Represents a case-insensitive substring search index over a fixed list of strings
+ * <p>
+ * Each distinct item is normalized once, and a trigram index is built to narrow the candidates
+ * for longer queries. Queries extending the previous query only re-check the previous matches.
+ * Searching is thread-safe, allowing filtering to occur off the render thread.
+ *
+ * @author CDAGaming
+ */
+public class SearchIndex {
+    /**
+     * The length of each indexed n-gram
+     */
+    private static final int GRAM_SIZE = 3;
+    /**
+     * The distinct items within this index, in their original order
+     */
+    private final String[] items;
+    /**
+     * The normalized search key of each item
+     */
+    private final String[] keys;
+    /**
+     * The ascending item indices containing each n-gram
+     */
+    private final Map<String, int[]> postings;
+    /**
+     * The previous search query, used for incremental searches
+     */
+    private String lastQuery = null;
+    /**
+     * The matching item indices of the previous search query
+     */
+    private int[] lastMatches = null;
+
+    /**
+     * Builds a new search index from the specified items
+     *
+     * @param source The items to index
+     */
+    public SearchIndex(final List<String> source) {
+        final Map<String, Boolean> seen = StringUtils.newHashMap();
+        final List<String> distinct = StringUtils.newArrayList();
+        for (String item : source) {
+            if (item != null && seen.putIfAbsent(item, Boolean.TRUE) == null) {
+                distinct.add(item);
+            }
+        }
+
+        items = distinct.toArray(new String[0]);
+        keys = new String[items.length];
+
+        final Map<String, int[]> builders = StringUtils.newHashMap();
+        final Map<String, Integer> sizes = StringUtils.newHashMap();
+        for (int i = 0; i < items.length; i++) {
+            final String key = normalize(items[i]);
+            keys[i] = key;
+            for (int start = 0; start + GRAM_SIZE <= key.length(); start++) {
+                final String gram = key.substring(start, start + GRAM_SIZE);
+                int[] entries = builders.get(gram);
+                final int size = sizes.getOrDefault(gram, 0);
+                if (size > 0 && entries[size - 1] == i) {
+                    continue;
+                }
+                if (entries == null) {
+                    entries = new int[4];
+                } else if (size == entries.length) {
+                    entries = Arrays.copyOf(entries, size * 2);
+                }
+                entries[size] = i;
+                builders.put(gram, entries);
+                sizes.put(gram, size + 1);
+            }
+        }
+
+        postings = StringUtils.newHashMap();
+        for (Map.Entry<String, int[]> entry : builders.entrySet()) {
+            postings.put(entry.getKey(), Arrays.copyOf(entry.getValue(), sizes.get(entry.getKey())));
+        }
+    }
+
+    /**
+     * Normalize the specified string into a search key
+     *
+     * @param input The string to interpret
+     * @return the normalized search key
+     */
+    public static String normalize(final String input) {
+        return input.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Retrieve the amount of distinct items within this index
+     *
+     * @return the amount of indexed items
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Retrieve the items containing the specified query, ignoring case
+     *
+     * @param query The search query to interpret
+     * @return the matching items, in their original order
+     */
+    public List<String> search(final String query) {
+        final int[] matches = findMatches(StringUtils.isNullOrEmpty(query) ? "" : normalize(query));
+        final List<String> result = StringUtils.newArrayList();
+        for (int index : matches) {
+            result.add(items[index]);
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the indices of the items containing the specified normalized query
+     *
+     * @param query The normalized search query to interpret
+     * @return the ascending indices of the matching items
+     */
+    private synchronized int[] findMatches(final String query) {
+        final int[] candidates;
+        if (lastQuery != null && query.startsWith(lastQuery)) {
+            candidates = lastMatches;
+        } else if (query.length() >= GRAM_SIZE) {
+            candidates = getRarestPostings(query);
+        } else {
+            candidates = null;
+        }
+
+        final int count = candidates != null ? candidates.length : items.length;
+        final int[] matches = new int[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            final int index = candidates != null ? candidates[i] : i;
+            if (keys[index].contains(query)) {
+                matches[size++] = index;
+            }
+        }
+
+        lastQuery = query;
+        lastMatches = size == count ? matches : Arrays.copyOf(matches, size);
+        return lastMatches;
+    }
+
+    /**
+     * Retrieve the smallest posting list among the n-grams of the specified query
+     *
+     * @param query The normalized search query to interpret
+     * @return the smallest posting list, or an empty array if any n-gram is not indexed
+     */
+    private int[] getRarestPostings(final String query) {
+        int[] result = null;
+        for (int start = 0; start + GRAM_SIZE <= query.length(); start++) {
+            final int[] entries = postings.get(query.substring(start, start + GRAM_SIZE));
+            if (entries == null) {
+                return new int[0];
+            } else if (result == null || entries.length < result.length) {
+                result = entries;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Simple List Implementation for tracking entry data
+ * <p>
+ * Entries are stored within a ring buffer, allowing entries to be added or removed at either end
+ * in constant time. Entry positions are indexed, allowing {@link List#indexOf(Object)} lookups without scanning the list.
+ * Changes at either end keep the index current, while other structural changes rebuild it upon the next lookup.
+ *
+ * @param <E> The entry type for the list
+ * @author CDAGaming
+ */
+public class TrackedList<E> extends AbstractList<E> {
+    /**
+     * The initial capacity of the ring buffer, which must be a power of two
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * The localized list storage, as a ring buffer
+     */
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    /**
+     * The storage position of the first entry
+     */
+    private int head = 0;
+    /**
+     * The amount of entries within the list
+     */
+    private int size = 0;
+    /**
+     * The sequence number of the first occurrence of each entry
+     * <p>
+     * The list index of an entry is its sequence number minus {@link TrackedList#firstSequence},
+     * so adding or removing entries at either end does not invalidate the remaining entries
+     */
+    private final Map<E, Integer> indices = StringUtils.newHashMap();
+    /**
+     * The sequence number of the first entry
+     */
+    private int firstSequence = 0;
+    /**
+     * Whether the entry index must be rebuilt before the next lookup
+     */
+    private boolean indicesDirty = false;
+    /**
+     * Whether the list may contain the same entry more than once
+     */
+    private boolean hasDuplicates = false;
+    /**
+     * The event to run for each entry placed into the list
+     */
+    private final Consumer<? super E> onInsert;
+
+    /**
+     * Initialization Event for this List, assigning defined arguments
+     *
+     * @param onInsert The event to run for each entry placed into the list
+     */
+    public TrackedList(final Consumer<? super E> onInsert) {
+        this.onInsert = onInsert;
+    }
+
+    /**
+     * Initialization Event for this List
+     */
+    public TrackedList() {
+        this(entry -> {
+        });
+    }
+
+    /**
+     * Retrieve the storage position of the specified list index
+     *
+     * @param index The list index to interpret
+     * @return the storage position
+     */
+    private int position(final int index) {
+        return (this.head + index) & (this.elements.length - 1);
+    }
+
+    /**
+     * Retrieve the entry at the specified storage position
+     *
+     * @param position The storage position to interpret
+     * @return the stored entry
+     */
+    @SuppressWarnings("unchecked")
+    private E element(final int position) {
+        return (E) this.elements[position];
+    }
+
+    /**
+     * Double the size of the ring buffer, if it is full
+     */
+    private void ensureCapacity() {
+        if (this.size == this.elements.length) {
+            final Object[] resized = new Object[this.elements.length << 1];
+            for (int i = 0; i < this.size; i++) {
+                resized[i] = this.elements[position(i)];
+            }
+            this.elements = resized;
+            this.head = 0;
+        }
+    }
+
+    /**
+     * Retrieve the amount of structural changes made to this list
+     *
+     * @return the modification count
+     */
+    public int getModCount() {
+        return this.modCount;
+    }
+
+    /**
+     * Replace the entries within the specified range with the specified entries, in a single pass
+     *
+     * @param fromIndex   The first index to replace, inclusive
+     * @param toIndex     The last index to replace, exclusive
+     * @param replacement The entries to place within the range
+     */
+    public void replaceRange(final int fromIndex, final int toIndex, final List<E> replacement) {
+        Objects.checkFromToIndex(fromIndex, toIndex, this.size);
+        final int count = replacement.size();
+        final int newSize = this.size - (toIndex - fromIndex) + count;
+        if (newSize == this.size) {
+            for (int i = 0; i < count; i++) {
+                this.elements[position(fromIndex + i)] = replacement.get(i);
+            }
+        } else {
+            int length = INITIAL_CAPACITY;
+            while (length < newSize) {
+                length <<= 1;
+            }
+            final Object[] resized = new Object[length];
+            for (int i = 0; i < fromIndex; i++) {
+                resized[i] = this.elements[position(i)];
+            }
+            for (int i = 0; i < count; i++) {
+                resized[fromIndex + i] = replacement.get(i);
+            }
+            for (int i = toIndex; i < this.size; i++) {
+                resized[fromIndex + count + i - toIndex] = this.elements[position(i)];
+            }
+            this.elements = resized;
+            this.head = 0;
+            this.size = newSize;
+        }
+        for (E entry : replacement) {
+            this.onInsert.accept(entry);
+        }
+        this.modCount++;
+        this.indicesDirty = true;
+    }
+
+    @Override
+    public E get(final int index) {
+        Objects.checkIndex(index, this.size);
+        return element(position(index));
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public E set(final int index, final E entry) {
+        Objects.checkIndex(index, this.size);
+        final int position = position(index);
+        final E prevEntry = element(position);
+        this.elements[position] = entry;
+        this.onInsert.accept(entry);
+        this.indicesDirty = true;
+        return prevEntry;
+    }
+
+    @Override
+    public void add(final int index, final E entry) {
+        Objects.checkIndex(index, this.size + 1);
+        ensureCapacity();
+        if (index == 0) {
+            this.head = position(-1);
+            this.elements[this.head] = entry;
+        } else {
+            for (int i = this.size; i > index; i--) {
+                this.elements[position(i)] = this.elements[position(i - 1)];
+            }
+            this.elements[position(index)] = entry;
+        }
+        this.size++;
+        this.modCount++;
+        this.onInsert.accept(entry);
+
+        if (this.indicesDirty) {
+            return;
+        }
+        if (index == 0) {
+            this.firstSequence--;
+            if (this.indices.put(entry, this.firstSequence) != null) {
+                this.hasDuplicates = true;
+            }
+        } else if (index == this.size - 1) {
+            if (this.indices.putIfAbsent(entry, this.firstSequence + index) != null) {
+                this.hasDuplicates = true;
+            }
+        } else {
+            this.indicesDirty = true;
+        }
+    }
+
+    @Override
+    public E remove(final int index) {
+        Objects.checkIndex(index, this.size);
+        final E entry = element(position(index));
+        if (index == 0) {
+            this.elements[this.head] = null;
+            this.head = position(1);
+        } else {
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[position(i)] = this.elements[position(i + 1)];
+            }
+            this.elements[position(this.size - 1)] = null;
+        }
+        this.size--;
+        this.modCount++;
+
+        if (this.indicesDirty) {
+            return entry;
+        }
+        if (index == 0) {
+            if (this.hasDuplicates) {
+                this.indicesDirty = true;
+            } else {
+                this.indices.remove(entry, this.firstSequence);
+            }
+            this.firstSequence++;
+        } else if (index == this.size) {
+            this.indices.remove(entry, this.firstSequence + index);
+        } else {
+            this.indicesDirty = true;
+        }
+        return entry;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.elements, null);
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+        this.indices.clear();
+        this.firstSequence = 0;
+        this.indicesDirty = false;
+        this.hasDuplicates = false;
+    }
+
+    @Override
+    public int indexOf(final Object entry) {
+        if (this.indicesDirty) {
+            this.indices.clear();
+            this.firstSequence = 0;
+            this.hasDuplicates = false;
+            for (int i = 0; i < this.size; i++) {
+                if (this.indices.putIfAbsent(element(position(i)), i) != null) {
+                    this.hasDuplicates = true;
+                }
+            }
+            this.indicesDirty = false;
+        }
+        final Integer sequence = this.indices.get(entry);
+        return sequence != null ? sequence - this.firstSequence : -1;
+    }
+
+    @Override
+    public boolean remove(final Object entry) {
+        final int index = indexOf(entry);
+        if (index >= 0) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(final Object entry) {
+        return indexOf(entry) >= 0;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents a snapshot of the character widths of a font, covering the Basic Multilingual Plane.
+ * <p>
+ * Once created, a table holds no reference to the font it was captured from, allowing text
+ * measurement and wrapping to be performed on any thread. Width calculations follow the same
+ * formatting rules as the game font, including the extra pixel applied to bold characters.
+ *
+ * @author CDAGaming
+ */
+public class GlyphWidthTable {
+    /**
+     * The amount of characters covered by this table
+     */
+    private static final int TABLE_SIZE = Character.MAX_VALUE + 1;
+    /**
+     * The width of each character, indexed by character value
+     */
+    private final int[] widths;
+    /**
+     * The height of a single line of text
+     */
+    private final int fontHeight;
+    /**
+     * Whether the table was captured while the font was forcing unicode glyphs
+     */
+    private final boolean unicode;
+
+    /**
+     * Captures a new width table from the specified character width function
+     *
+     * @param charWidthFunction The function to retrieve the width of each character
+     * @param fontHeight        The height of a single line of text
+     * @param unicode           Whether the font was forcing unicode glyphs during capture
+     */
+    public GlyphWidthTable(final IntUnaryOperator charWidthFunction, final int fontHeight, final boolean unicode) {
+        this.widths = new int[TABLE_SIZE];
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            widths[i] = charWidthFunction.applyAsInt(i);
+        }
+        this.fontHeight = fontHeight;
+        this.unicode = unicode;
+    }
+
+    /**
+     * Retrieve the height of a single line of text
+     *
+     * @return the font height
+     */
+    public int getFontHeight() {
+        return fontHeight;
+    }
+
+    /**
+     * Whether the table was captured while the font was forcing unicode glyphs
+     *
+     * @return {@link Boolean#TRUE} if captured in unicode mode
+     */
+    public boolean isUnicode() {
+        return unicode;
+    }
+
+    /**
+     * Get the Width of a Character
+     *
+     * @param character The character to interpret
+     * @return the character's width, or -1 for the formatting character
+     */
+    public int getCharWidth(final char character) {
+        return widths[character];
+    }
+
+    /**
+     * Get the Width of a String, skipping formatting codes
+     *
+     * @param string The string to interpret
+     * @return the string's width
+     */
+    public int getStringWidth(final String string) {
+        return getStringWidth(StyledText.parse(string));
+    }
+
+    /**
+     * Get the Width of a Styled Text
+     *
+     * @param text The styled text to interpret
+     * @return the text's width
+     */
+    public int getStringWidth(final StyledText text) {
+        final String source = text.source();
+        int width = 0;
+        for (int index = 0; index < text.size(); index++) {
+            final TextRun run = text.getRun(index);
+            for (int i = run.start(); i < run.end(); i++) {
+                final int charWidth = widths[source.charAt(i)];
+                if (charWidth > 0) {
+                    width += run.bold() ? charWidth + 1 : charWidth;
+                }
+            }
+        }
+        return width;
+    }
+
+    /**
+     * Format the specified string to conform to the specified width
+     *
+     * @param stringInput The original String to wrap
+     * @param wrapWidth   The target width per line, to wrap the input around
+     * @return The converted and wrapped version of the original input
+     */
+    public List<String> listFormattedStringToWidth(final String stringInput, final int wrapWidth) {
+        return listFormattedStringToWidth(StyledText.parse(stringInput), wrapWidth);
+    }
+
+    /**
+     * Format the specified styled text to conform to the specified width
+     * <p>
+     * Lines are broken at the last space before the width is exceeded, or at the exceeding character
+     * if no space is available. Each following line is prefixed with the style active at its start.
+     *
+     * @param text      The styled text to wrap
+     * @param wrapWidth The target width per line, to wrap the input around
+     * @return The converted and wrapped version of the original input
+     */
+    public List<String> listFormattedStringToWidth(final StyledText text, final int wrapWidth) {
+        final List<String> lines = StringUtils.newArrayList();
+        final String source = text.source();
+        final int runCount = text.size();
+
+        String linePrefix = "";
+        int lineStart = 0;
+        int lineWidth = 0;
+        int lineLength = 0;
+        int spaceIndex = -1;
+        int spaceRun = -1;
+        int runIndex = 0;
+        int index = runCount > 0 ? text.getRun(0).start() : 0;
+
+        while (runIndex < runCount) {
+            final TextRun run = text.getRun(runIndex);
+            if (index >= run.end()) {
+                if (++runIndex < runCount) {
+                    index = text.getRun(runIndex).start();
+                }
+                continue;
+            }
+
+            final char character = source.charAt(index);
+            if (character == '\n') {
+                lines.add(linePrefix + source.substring(lineStart, index));
+                linePrefix = run.getFormatPrefix();
+                lineStart = ++index;
+                lineWidth = 0;
+                lineLength = 0;
+                spaceIndex = -1;
+                continue;
+            }
+            if (character == ' ') {
+                spaceIndex = index;
+                spaceRun = runIndex;
+            }
+
+            final int charWidth = widths[character];
+            if (charWidth > 0) {
+                lineWidth += run.bold() ? charWidth + 1 : charWidth;
+            }
+
+            if (lineWidth > wrapWidth && (spaceIndex != -1 || lineLength > 0)) {
+                if (spaceIndex != -1) {
+                    lines.add(linePrefix + source.substring(lineStart, spaceIndex));
+                    linePrefix = text.getRun(spaceRun).getFormatPrefix();
+                    runIndex = spaceRun;
+                    index = lineStart = spaceIndex + 1;
+                } else {
+                    lines.add(linePrefix + source.substring(lineStart, index));
+                    linePrefix = run.getFormatPrefix();
+                    lineStart = index;
+                }
+                lineWidth = 0;
+                lineLength = 0;
+                spaceIndex = -1;
+                continue;
+            }
+            lineLength++;
+            index++;
+        }
+
+        lines.add(linePrefix + source.substring(lineStart));
+        return lines;
+    }
+}
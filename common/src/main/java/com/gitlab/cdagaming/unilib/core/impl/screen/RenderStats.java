@@ -0,0 +1,273 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Collects per-frame rendering statistics for screens, such as draw calls and time spent in each render phase.
+ * <p>
+ * Statistics are only gathered while enabled; when disabled, each recording method returns after
+ * a single flag check. Values for the current frame are accumulated until the outermost frame ends,
+ * after which they become available through the query methods until the next frame completes.
+ *
+ * @author CDAGaming
+ */
+public class RenderStats {
+    /**
+     * The counter values of the frame in progress
+     */
+    private static final long[] counters = new long[Counter.values().length];
+    /**
+     * The timer values of the frame in progress, in nanoseconds
+     */
+    private static final long[] timers = new long[Timer.values().length];
+    /**
+     * The counter values of the last completed frame
+     */
+    private static final long[] lastCounters = new long[Counter.values().length];
+    /**
+     * The timer values of the last completed frame, in nanoseconds
+     */
+    private static final long[] lastTimers = new long[Timer.values().length];
+    /**
+     * The last recorded frame time of each screen, in nanoseconds
+     */
+    private static final Map<String, Long> screenTimes = StringUtils.newConcurrentHashMap();
+    /**
+     * Whether statistics are currently being gathered
+     */
+    private static boolean enabled = false;
+    /**
+     * The current nesting depth of frames, with nested screens contributing to the outermost frame
+     */
+    private static int frameDepth = 0;
+
+    /**
+     * Whether statistics are currently being gathered
+     *
+     * @return {@link Boolean#TRUE} if enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether statistics should be gathered, clearing any previous values
+     *
+     * @param enabled The new enabled state
+     */
+    public static void setEnabled(final boolean enabled) {
+        RenderStats.enabled = enabled;
+        reset();
+    }
+
+    /**
+     * Clear all gathered statistics
+     */
+    public static void reset() {
+        Arrays.fill(counters, 0L);
+        Arrays.fill(timers, 0L);
+        Arrays.fill(lastCounters, 0L);
+        Arrays.fill(lastTimers, 0L);
+        screenTimes.clear();
+        frameDepth = 0;
+    }
+
+    /**
+     * Increment the specified counter by one
+     *
+     * @param counter The counter to increment
+     */
+    public static void increment(final Counter counter) {
+        if (enabled) {
+            counters[counter.ordinal()]++;
+        }
+    }
+
+    /**
+     * Increment the specified counter by the specified amount
+     *
+     * @param counter The counter to increment
+     * @param amount  The amount to add
+     */
+    public static void add(final Counter counter, final long amount) {
+        if (enabled) {
+            counters[counter.ordinal()] += amount;
+        }
+    }
+
+    /**
+     * Retrieve a start time for measuring a timer
+     *
+     * @return the current time in nanoseconds, or zero if disabled
+     */
+    public static long startTimer() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Add the time elapsed since the specified start time to a timer
+     *
+     * @param timer     The timer to add to
+     * @param startTime The start time, retrieved from {@link RenderStats#startTimer()}
+     */
+    public static void stopTimer(final Timer timer, final long startTime) {
+        if (enabled && startTime != 0L) {
+            timers[timer.ordinal()] += System.nanoTime() - startTime;
+        }
+    }
+
+    /**
+     * Mark the start of a screen frame
+     *
+     * @return the frame start time, or zero if disabled
+     */
+    public static long beginFrame() {
+        if (!enabled) {
+            return 0L;
+        }
+        frameDepth++;
+        return System.nanoTime();
+    }
+
+    /**
+     * Mark the end of a screen frame, publishing the gathered values once the outermost frame ends
+     *
+     * @param screenName The name of the screen that was rendered
+     * @param startTime  The frame start time, retrieved from {@link RenderStats#beginFrame()}
+     */
+    public static void endFrame(final String screenName, final long startTime) {
+        if (!enabled || startTime == 0L) {
+            return;
+        }
+        final long elapsed = System.nanoTime() - startTime;
+        screenTimes.put(screenName, elapsed);
+        if (--frameDepth <= 0) {
+            frameDepth = 0;
+            timers[Timer.FRAME.ordinal()] = elapsed;
+            System.arraycopy(counters, 0, lastCounters, 0, counters.length);
+            System.arraycopy(timers, 0, lastTimers, 0, timers.length);
+            Arrays.fill(counters, 0L);
+            Arrays.fill(timers, 0L);
+        }
+    }
+
+    /**
+     * Retrieve the value of a counter for the last completed frame
+     *
+     * @param counter The counter to retrieve
+     * @return the counter value
+     */
+    public static long getCount(final Counter counter) {
+        return lastCounters[counter.ordinal()];
+    }
+
+    /**
+     * Retrieve the value of a timer for the last completed frame
+     *
+     * @param timer The timer to retrieve
+     * @return the timer value, in nanoseconds
+     */
+    public static long getTime(final Timer timer) {
+        return lastTimers[timer.ordinal()];
+    }
+
+    /**
+     * Retrieve the value of a timer for the last completed frame
+     *
+     * @param timer The timer to retrieve
+     * @return the timer value, in milliseconds
+     */
+    public static double getTimeMillis(final Timer timer) {
+        return getTime(timer) / 1_000_000.0D;
+    }
+
+    /**
+     * Retrieve the last recorded frame time of each screen
+     *
+     * @return a copy of the frame times, in nanoseconds, keyed by screen name
+     */
+    public static Map<String, Long> getScreenTimes() {
+        final Map<String, Long> result = StringUtils.newHashMap();
+        result.putAll(screenTimes);
+        return result;
+    }
+
+    /**
+     * Represents the countable rendering operations
+     */
+    public enum Counter {
+        /**
+         * Geometry draw calls, including replayed retained geometry
+         */
+        DRAW_CALLS,
+        /**
+         * Quads submitted through geometry draw calls
+         */
+        QUADS,
+        /**
+         * Texture binds requested through the renderer
+         */
+        TEXTURE_BINDS,
+        /**
+         * Scissor test state or area changes sent to the GPU
+         */
+        SCISSOR_CHANGES,
+        /**
+         * Text draws sent to the font renderer
+         */
+        TEXT_DRAWS,
+        /**
+         * String width measurements and wraps
+         */
+        STRING_MEASUREMENTS
+    }
+
+    /**
+     * Represents the timed rendering phases
+     */
+    public enum Timer {
+        /**
+         * The full frame of the outermost screen
+         */
+        FRAME,
+        /**
+         * Time spent in the pre-render phase
+         */
+        PRE_RENDER,
+        /**
+         * Time spent in the extra render phase
+         */
+        RENDER_EXTRA,
+        /**
+         * Time spent in the post-render phase
+         */
+        POST_RENDER
+    }
+}
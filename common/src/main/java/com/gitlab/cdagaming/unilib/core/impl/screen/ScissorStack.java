@@ -25,8 +25,7 @@
 package com.gitlab.cdagaming.unilib.core.impl.screen;
 
 import javax.annotation.Nullable;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 
 /**
  * Represents a stack of {@link ScreenRectangle} objects to manage the scissor areas for rendering.
@@ -34,14 +33,62 @@ import java.util.Deque;
  * intersected with the current top of the stack to ensure proper nesting of scissor areas.
  * It also allows popping the top scissor rectangle from the stack, adjusting the current
  * scissor area accordingly.
+ * <p>
+ * Entries are stored as packed bounds within a reusable int array, so that pushing and popping
+ * through the primitive methods does not allocate once the stack has grown to its working depth.
  *
  * @author CDAGaming
  */
 public class ScissorStack {
     /**
-     * The stack holding the {@link ScreenRectangle} objects.
+     * The amount of int slots used by a single entry (left, top, right, bottom)
      */
-    private final Deque<ScreenRectangle> stack = new ArrayDeque<>();
+    private static final int ENTRY_SIZE = 4;
+    /**
+     * The initial amount of entries the stack can hold before growing
+     */
+    private static final int DEFAULT_CAPACITY = 8;
+    /**
+     * The pooled storage holding the bounds of each entry, in the format of [left,top,right,bottom]
+     */
+    private int[] bounds = new int[DEFAULT_CAPACITY * ENTRY_SIZE];
+    /**
+     * The current amount of entries within the stack
+     */
+    private int size = 0;
+
+    /**
+     * Pushes a new scissor area onto the stack. If the stack is not empty,
+     * this method intersects the new scissor with the area currently at the top of the stack.
+     * If no intersection exists, an empty area is pushed to signify no scissor area.
+     *
+     * @param left   The left-most coordinate of the new scissor area
+     * @param top    The top-most coordinate of the new scissor area
+     * @param right  The right-most coordinate of the new scissor area
+     * @param bottom The bottom-most coordinate of the new scissor area
+     */
+    public void push(int left, int top, int right, int bottom) {
+        if (size > 0) {
+            final int offset = (size - 1) * ENTRY_SIZE;
+            left = Math.max(left, bounds[offset]);
+            top = Math.max(top, bounds[offset + 1]);
+            right = Math.min(right, bounds[offset + 2]);
+            bottom = Math.min(bottom, bounds[offset + 3]);
+            if (left >= right || top >= bottom) {
+                left = top = right = bottom = 0;
+            }
+        }
+
+        final int offset = size * ENTRY_SIZE;
+        if (offset + ENTRY_SIZE > bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[offset] = left;
+        bounds[offset + 1] = top;
+        bounds[offset + 2] = right;
+        bounds[offset + 3] = bottom;
+        size++;
+    }
 
     /**
      * Pushes a new {@link ScreenRectangle} (scissor) onto the stack. If the stack is not empty,
@@ -57,16 +104,23 @@ public class ScissorStack {
      * or an empty {@link ScreenRectangle} if there is no intersection.
      */
     public ScreenRectangle push(final ScreenRectangle scissor) {
-        final ScreenRectangle last = this.stack.peekLast();
-        if (last != null) {
-            final ScreenRectangle intersection = scissor.intersection(last);
-            final ScreenRectangle lv2 = intersection != null ? intersection : ScreenRectangle.empty();
-            this.stack.addLast(lv2);
-            return lv2;
-        } else {
-            this.stack.addLast(scissor);
-            return scissor;
+        push(scissor.getLeft(), scissor.getTop(), scissor.getRight(), scissor.getBottom());
+        return peek();
+    }
+
+    /**
+     * Removes the top scissor area from the stack, without allocating a {@link ScreenRectangle}.
+     *
+     * @return {@link Boolean#TRUE} if a scissor area is still active after the operation
+     * @throws IllegalStateException if the stack is empty before the operation, indicating
+     *                               an underflow condition.
+     */
+    public boolean popBounds() {
+        if (size == 0) {
+            throw new IllegalStateException("Scissor stack underflow");
         }
+        size--;
+        return size > 0;
     }
 
     /**
@@ -82,11 +136,84 @@ public class ScissorStack {
      */
     @Nullable
     public ScreenRectangle pop() {
-        if (this.stack.isEmpty()) {
-            throw new IllegalStateException("Scissor stack underflow");
-        } else {
-            this.stack.removeLast();
-            return this.stack.peekLast();
+        popBounds();
+        return peek();
+    }
+
+    /**
+     * Retrieve the {@link ScreenRectangle} currently at the top of the stack
+     *
+     * @return the current scissor area, or {@code null} if the stack is empty
+     */
+    @Nullable
+    public ScreenRectangle peek() {
+        if (size == 0) {
+            return null;
         }
+        return new ScreenRectangle(getLeft(), getTop(), getRight() - getLeft(), getBottom() - getTop());
+    }
+
+    /**
+     * Whether the stack currently holds no scissor areas
+     *
+     * @return {@link Boolean#TRUE} if the stack is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieve the amount of scissor areas currently within the stack
+     *
+     * @return the current stack depth
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieve the left-most coordinate of the current scissor area
+     *
+     * @return the left-most coordinate, or zero if the stack is empty
+     */
+    public int getLeft() {
+        return getBound(0);
+    }
+
+    /**
+     * Retrieve the top-most coordinate of the current scissor area
+     *
+     * @return the top-most coordinate, or zero if the stack is empty
+     */
+    public int getTop() {
+        return getBound(1);
+    }
+
+    /**
+     * Retrieve the right-most coordinate of the current scissor area
+     *
+     * @return the right-most coordinate, or zero if the stack is empty
+     */
+    public int getRight() {
+        return getBound(2);
+    }
+
+    /**
+     * Retrieve the bottom-most coordinate of the current scissor area
+     *
+     * @return the bottom-most coordinate, or zero if the stack is empty
+     */
+    public int getBottom() {
+        return getBound(3);
+    }
+
+    /**
+     * Retrieve a coordinate of the current scissor area
+     *
+     * @param index The index of the coordinate, in the format of [left,top,right,bottom]
+     * @return the specified coordinate, or zero if the stack is empty
+     */
+    private int getBound(final int index) {
+        return size > 0 ? bounds[(size - 1) * ENTRY_SIZE + index] : 0;
     }
 }
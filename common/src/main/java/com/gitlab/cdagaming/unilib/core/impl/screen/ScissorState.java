@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+/**
+ * Tracks the scissor test state applied to a render target, skipping calls that would leave it unchanged
+ * <p>
+ * The scissor area is taken from the top of a {@link ScissorStack}, in GUI coordinates,
+ * and converted into a bottom-left based scissor box in display coordinates.
+ *
+ * @author CDAGaming
+ */
+public class ScissorState {
+    /**
+     * The target receiving the scissor calls
+     */
+    private final Target target;
+    /**
+     * The last scissor box applied to the target, in the format of [x,y,width,height]
+     */
+    private final int[] box = new int[4];
+    /**
+     * Whether the scissor test has been enabled on the target
+     */
+    private boolean enabled = false;
+
+    /**
+     * Initializes a new scissor state, for the specified target
+     *
+     * @param target The target receiving the scissor calls
+     */
+    public ScissorState(final Target target) {
+        this.target = target;
+    }
+
+    /**
+     * Apply the current top of the specified scissor stack to the target
+     * <p>
+     * The scissor test is enabled while the stack holds an area, and disabled once it is empty.
+     * The scissor box is only set when enabling the test, or when it differs from the last applied box.
+     *
+     * @param stack         The scissor stack to interpret
+     * @param scale         The current GUI scale
+     * @param displayHeight The current display height
+     */
+    public void apply(final ScissorStack stack, final int scale, final int displayHeight) {
+        if (!stack.isEmpty()) {
+            final int renderX = stack.getLeft() * scale;
+            final int renderY = displayHeight - stack.getBottom() * scale;
+            final int renderWidth = Math.max(0, (stack.getRight() - stack.getLeft()) * scale);
+            final int renderHeight = Math.max(0, (stack.getBottom() - stack.getTop()) * scale);
+            if (!enabled) {
+                target.enable();
+                enabled = true;
+            } else if (renderX == box[0] && renderY == box[1] &&
+                    renderWidth == box[2] && renderHeight == box[3]) {
+                return;
+            }
+            target.setBox(renderX, renderY, renderWidth, renderHeight);
+            RenderStats.increment(RenderStats.Counter.SCISSOR_CHANGES);
+            box[0] = renderX;
+            box[1] = renderY;
+            box[2] = renderWidth;
+            box[3] = renderHeight;
+        } else if (enabled) {
+            target.disable();
+            enabled = false;
+            RenderStats.increment(RenderStats.Counter.SCISSOR_CHANGES);
+        }
+    }
+
+    /**
+     * Whether the scissor test has been enabled on the target
+     *
+     * @return {@link Boolean#TRUE} if the scissor test is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Represents the render target receiving scissor calls, such as the GL context
+     *
+     * @author CDAGaming
+     */
+    public interface Target {
+        /**
+         * Enable the scissor test
+         */
+        void enable();
+
+        /**
+         * Disable the scissor test
+         */
+        void disable();
+
+        /**
+         * Set the scissor box, in display coordinates
+         *
+         * @param x      The left-most coordinate of the box
+         * @param y      The bottom-most coordinate of the box
+         * @param width  The width of the box
+         * @param height The height of the box
+         */
+        void setBox(final int x, final int y, final int width, final int height);
+    }
+}
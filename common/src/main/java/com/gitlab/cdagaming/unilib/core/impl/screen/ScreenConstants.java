@@ -148,6 +148,90 @@ public class ScreenConstants {
         return DEFAULT_TOOLTIP;
     }
 
+    /**
+     * Pack the specified color channels into a single ARGB integer
+     *
+     * @param red   The color index for the Red Channel
+     * @param green The color index for the Green Channel
+     * @param blue  The color index for the Blue Channel
+     * @param alpha The color index for the Alpha Channel
+     * @return the packed ARGB color
+     */
+    public static int packColor(final int red, final int green, final int blue, final int alpha) {
+        return ((alpha & 0xFF) << 24) | ((red & 0xFF) << 16) | ((green & 0xFF) << 8) | (blue & 0xFF);
+    }
+
+    /**
+     * Retrieve the Alpha Channel from a packed ARGB color
+     *
+     * @param color The packed ARGB color to interpret
+     * @return the Alpha Channel index
+     */
+    public static int getAlpha(final int color) {
+        return (color >>> 24) & 0xFF;
+    }
+
+    /**
+     * Retrieve the Red Channel from a packed ARGB color
+     *
+     * @param color The packed ARGB color to interpret
+     * @return the Red Channel index
+     */
+    public static int getRed(final int color) {
+        return (color >> 16) & 0xFF;
+    }
+
+    /**
+     * Retrieve the Green Channel from a packed ARGB color
+     *
+     * @param color The packed ARGB color to interpret
+     * @return the Green Channel index
+     */
+    public static int getGreen(final int color) {
+        return (color >> 8) & 0xFF;
+    }
+
+    /**
+     * Retrieve the Blue Channel from a packed ARGB color
+     *
+     * @param color The packed ARGB color to interpret
+     * @return the Blue Channel index
+     */
+    public static int getBlue(final int color) {
+        return color & 0xFF;
+    }
+
+    /**
+     * Offset the RGB channels of a packed ARGB color by the specified factor
+     * <p>Equivalent to {@link StringUtils#offsetColor(Color, float)}, without allocating a {@link Color}
+     *
+     * @param color  The packed ARGB color to interpret
+     * @param factor The factor at which to offset the color
+     * @return the offset packed ARGB color
+     */
+    public static int offsetColor(final int color, final float factor) {
+        if (factor == 1.0f) {
+            return color;
+        }
+        return packColor(
+                offsetChannel(getRed(color), factor),
+                offsetChannel(getGreen(color), factor),
+                offsetChannel(getBlue(color), factor),
+                getAlpha(color)
+        );
+    }
+
+    /**
+     * Offset a single color channel by the specified factor
+     *
+     * @param channel The color channel index to interpret
+     * @param factor  The factor at which to offset the channel
+     * @return the offset color channel, clamped to a valid index
+     */
+    private static int offsetChannel(final int channel, final float factor) {
+        return Math.min(Math.max((int) (channel * factor), 0), 255);
+    }
+
     /**
      * Record Mapping for storing Tooltip Rendering Info
      *
@@ -524,6 +608,44 @@ public class ScreenConstants {
             return end().color();
         }
 
+        /**
+         * Retrieve the starting color, as a packed ARGB integer
+         *
+         * @return the starting packed ARGB color
+         */
+        public int startArgb() {
+            return start().argb();
+        }
+
+        /**
+         * Retrieve the ending color, as a packed ARGB integer
+         *
+         * @return the ending packed ARGB color
+         */
+        public int endArgb() {
+            return end().argb();
+        }
+
+        /**
+         * Retrieve the starting color, as a packed ARGB integer offset by the specified tint
+         *
+         * @param tintFactor The factor at which to tint the color
+         * @return the tinted starting packed ARGB color
+         */
+        public int startArgb(final float tintFactor) {
+            return start().tint(tintFactor);
+        }
+
+        /**
+         * Retrieve the ending color, as a packed ARGB integer offset by the specified tint
+         *
+         * @param tintFactor The factor at which to tint the color
+         * @return the tinted ending packed ARGB color
+         */
+        public int endArgb(final float tintFactor) {
+            return end().tint(tintFactor);
+        }
+
         /**
          * Whether the texture location is present
          *
@@ -542,6 +664,24 @@ public class ScreenConstants {
         public String texLocation() {
             return hasTexLocation() ? texLocation : "";
         }
+
+        /**
+         * Whether this info renders as color-only, without a texture
+         *
+         * @return {@link Boolean#TRUE} if rendering as color-only
+         */
+        public boolean isColorOnly() {
+            return !hasTexLocation() || !useFullTexture();
+        }
+
+        /**
+         * Retrieve the Z-Level this info renders at
+         *
+         * @return the texture Z-Level if a texture location is present, otherwise the color Z-Level
+         */
+        public double renderLevel() {
+            return hasTexLocation() ? texLevel() : colorLevel();
+        }
     }
 
     /**
@@ -586,5 +726,24 @@ public class ScreenConstants {
         public Color color() {
             return StringUtils.getColorFrom(red(), green(), blue(), alpha());
         }
+
+        /**
+         * Retrieve the packed ARGB representation of this section
+         *
+         * @return the packed ARGB color
+         */
+        public int argb() {
+            return packColor(red(), green(), blue(), alpha());
+        }
+
+        /**
+         * Retrieve the packed ARGB representation of this section, offset by the specified tint
+         *
+         * @param tintFactor The factor at which to tint the color
+         * @return the tinted packed ARGB color
+         */
+        public int tint(final float tintFactor) {
+            return offsetColor(argb(), tintFactor);
+        }
     }
 }
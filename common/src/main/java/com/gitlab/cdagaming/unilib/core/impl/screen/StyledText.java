@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.List;
+
+/**
+ * Represents a formatted string, split into runs of visible characters sharing the same style.
+ * <p>
+ * Formatting codes are parsed once when created, following the same rules as the game font:
+ * a color code resets any active styles, and a reset code clears both color and styles.
+ * <p>
+ * Instances are immutable, and two instances are equal when parsed from the same source.
+ *
+ * @author CDAGaming
+ */
+public final class StyledText {
+    /**
+     * An empty, unformatted text instance
+     */
+    public static final StyledText EMPTY = new StyledText("", new TextRun[0], "");
+    /**
+     * The original formatted string
+     */
+    private final String source;
+    /**
+     * The styled runs of visible characters, in order
+     */
+    private final TextRun[] runs;
+    /**
+     * The visible characters of the source, without any formatting codes
+     */
+    private final String plainText;
+
+    /**
+     * Initializes a new styled text, taking ownership of the specified runs
+     *
+     * @param source    The original formatted string
+     * @param runs      The styled runs of visible characters, in order
+     * @param plainText The visible characters of the source, without any formatting codes
+     */
+    private StyledText(final String source, final TextRun[] runs, final String plainText) {
+        this.source = source;
+        this.runs = runs;
+        this.plainText = plainText;
+    }
+
+    /**
+     * Parse the specified formatted string into its styled runs
+     *
+     * @param source The formatted string to interpret
+     * @return the resulting {@link StyledText}
+     */
+    public static StyledText parse(final String source) {
+        if (StringUtils.isNullOrEmpty(source)) {
+            return EMPTY;
+        }
+
+        final int length = source.length();
+        final List<TextRun> runs = StringUtils.newArrayList();
+        final StringBuilder plainText = new StringBuilder(length);
+        int runStart = -1;
+        char colorCode = '\0';
+        boolean bold = false;
+        boolean italic = false;
+        boolean underline = false;
+        boolean strikethrough = false;
+        boolean obfuscated = false;
+
+        for (int i = 0; i < length; i++) {
+            final char character = source.charAt(i);
+            if (character != StringUtils.COLOR_CHAR) {
+                if (runStart == -1) {
+                    runStart = i;
+                }
+                plainText.append(character);
+                continue;
+            }
+
+            if (runStart != -1) {
+                runs.add(new TextRun(runStart, i, colorCode, bold, italic, underline, strikethrough, obfuscated));
+                runStart = -1;
+            }
+            if (i >= length - 1) {
+                break;
+            }
+
+            final char code = Character.toLowerCase(source.charAt(++i));
+            if (StringUtils.isFormatColor(code)) {
+                colorCode = code;
+                bold = italic = underline = strikethrough = obfuscated = false;
+            } else {
+                switch (code) {
+                    case 'k' -> obfuscated = true;
+                    case 'l' -> bold = true;
+                    case 'm' -> strikethrough = true;
+                    case 'n' -> underline = true;
+                    case 'o' -> italic = true;
+                    case 'r' -> {
+                        colorCode = '\0';
+                        bold = italic = underline = strikethrough = obfuscated = false;
+                    }
+                    default -> {
+                        // Unknown codes are hidden, but do not change the style
+                    }
+                }
+            }
+        }
+
+        if (runStart != -1) {
+            runs.add(new TextRun(runStart, length, colorCode, bold, italic, underline, strikethrough, obfuscated));
+        }
+        return new StyledText(source, runs.toArray(new TextRun[0]), plainText.toString());
+    }
+
+    /**
+     * Retrieve the original formatted string
+     *
+     * @return the source string
+     */
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Retrieve the visible characters of the source, without any formatting codes
+     *
+     * @return the plain text
+     */
+    public String plainText() {
+        return plainText;
+    }
+
+    /**
+     * Retrieve the amount of styled runs within this text
+     *
+     * @return the amount of runs
+     */
+    public int size() {
+        return runs.length;
+    }
+
+    /**
+     * Retrieve the styled run at the specified index
+     *
+     * @param index The index of the run
+     * @return the styled run
+     */
+    public TextRun getRun(final int index) {
+        return runs[index];
+    }
+
+    /**
+     * Whether this text contains any formatting codes
+     *
+     * @return {@link Boolean#TRUE} if the source differs from its plain text
+     */
+    public boolean isFormatted() {
+        return source.length() != plainText.length();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || (obj instanceof StyledText other && source.equals(other.source));
+    }
+
+    @Override
+    public int hashCode() {
+        return source.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+/**
+ * Represents a range of visible characters within a formatted string, sharing the same style
+ *
+ * @param start         The index of the first character of this run, within the source string
+ * @param end           The index after the last character of this run, within the source string
+ * @param colorCode     The active color code, or {@code '\0'} if no color is applied
+ * @param bold          Whether the run is rendered in bold
+ * @param italic        Whether the run is rendered in italics
+ * @param underline     Whether the run is underlined
+ * @param strikethrough Whether the run is struck through
+ * @param obfuscated    Whether the run is obfuscated
+ * @author CDAGaming
+ */
+public record TextRun(int start, int end, char colorCode,
+                      boolean bold, boolean italic, boolean underline,
+                      boolean strikethrough, boolean obfuscated) {
+    /**
+     * Retrieve the amount of characters within this run
+     *
+     * @return the run length
+     */
+    public int length() {
+        return end - start;
+    }
+
+    /**
+     * Whether this run has a color code applied
+     *
+     * @return {@link Boolean#TRUE} if a color code is applied
+     */
+    public boolean hasColor() {
+        return colorCode != '\0';
+    }
+
+    /**
+     * Whether this run has any formatting applied
+     *
+     * @return {@link Boolean#TRUE} if any color or style is applied
+     */
+    public boolean isFormatted() {
+        return hasColor() || bold || italic || underline || strikethrough || obfuscated;
+    }
+
+    /**
+     * Retrieve the formatting codes required to reproduce the style of this run
+     *
+     * @return the formatting code prefix, or an empty string if unformatted
+     */
+    public String getFormatPrefix() {
+        if (!isFormatted()) {
+            return "";
+        }
+
+        final StringBuilder result = new StringBuilder(12);
+        if (hasColor()) {
+            result.append(StringUtils.COLOR_CHAR).append(colorCode);
+        }
+        if (obfuscated) {
+            result.append(StringUtils.COLOR_CHAR).append('k');
+        }
+        if (bold) {
+            result.append(StringUtils.COLOR_CHAR).append('l');
+        }
+        if (strikethrough) {
+            result.append(StringUtils.COLOR_CHAR).append('m');
+        }
+        if (underline) {
+            result.append(StringUtils.COLOR_CHAR).append('n');
+        }
+        if (italic) {
+            result.append(StringUtils.COLOR_CHAR).append('o');
+        }
+        return result.toString();
+    }
+}
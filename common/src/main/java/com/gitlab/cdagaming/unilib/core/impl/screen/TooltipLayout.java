@@ -0,0 +1,261 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Represents the measured and wrapped text of a multi-line string, such as a tooltip.
+ * <p>
+ * Instances are immutable once created and are cached by the renderer, so that repeated
+ * rendering of the same text does not need to re-measure or re-wrap each line.
+ *
+ * @author CDAGaming
+ */
+public final class TooltipLayout {
+    /**
+     * The original lines this layout was computed from
+     */
+    private final List<String> source;
+    /**
+     * The width the lines were wrapped to, or -1 if not wrapped
+     */
+    private final int wrapWidth;
+    /**
+     * The resulting lines to render
+     */
+    private final String[] lines;
+    /**
+     * The rendered width of each resulting line
+     */
+    private final int[] widths;
+    /**
+     * The amount of resulting lines belonging to the first source line
+     */
+    private final int titleLinesCount;
+    /**
+     * The width of the widest resulting line
+     */
+    private final int textWidth;
+
+    /**
+     * Initializes a new layout, taking ownership of the specified data
+     *
+     * @param source          The original lines this layout was computed from
+     * @param wrapWidth       The width the lines were wrapped to, or -1 if not wrapped
+     * @param lines           The resulting lines to render
+     * @param widths          The rendered width of each resulting line
+     * @param titleLinesCount The amount of resulting lines belonging to the first source line
+     * @param textWidth       The width of the widest resulting line
+     */
+    private TooltipLayout(final List<String> source, final int wrapWidth,
+                          final String[] lines, final int[] widths,
+                          final int titleLinesCount, final int textWidth) {
+        this.source = Collections.unmodifiableList(source);
+        this.wrapWidth = wrapWidth;
+        this.lines = lines;
+        this.widths = widths;
+        this.titleLinesCount = titleLinesCount;
+        this.textWidth = textWidth;
+    }
+
+    /**
+     * Measure and wrap the specified lines into a new layout
+     *
+     * @param glyphWidths The glyph widths to measure the lines with
+     * @param textToInput The Specified Multi-Line String, split by lines into a list
+     * @param wrapWidth   The width to wrap each line to, or -1 to keep the lines as-is
+     * @param styler      The function used to retrieve the styled text of each line
+     * @return the resulting {@link TooltipLayout}
+     */
+    public static TooltipLayout create(final GlyphWidthTable glyphWidths, final List<String> textToInput, final int wrapWidth,
+                                       final Function<String, StyledText> styler) {
+        final List<String> source = StringUtils.newArrayList(textToInput);
+        final List<String> lines;
+        int titleLinesCount = 1;
+        if (wrapWidth >= 0) {
+            lines = StringUtils.newArrayList();
+            for (int i = 0; i < source.size(); i++) {
+                final List<String> wrappedLine = glyphWidths.listFormattedStringToWidth(styler.apply(source.get(i)), wrapWidth);
+                if (i == 0) {
+                    titleLinesCount = wrappedLine.size();
+                }
+                lines.addAll(wrappedLine);
+            }
+        } else {
+            lines = source;
+        }
+
+        final int[] widths = new int[lines.size()];
+        int textWidth = 0;
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = glyphWidths.getStringWidth(styler.apply(lines.get(i)));
+            if (widths[i] > textWidth) {
+                textWidth = widths[i];
+            }
+        }
+
+        RenderStats.add(RenderStats.Counter.STRING_MEASUREMENTS, widths.length);
+        return new TooltipLayout(
+                source, wrapWidth,
+                lines.toArray(new String[0]), widths,
+                titleLinesCount, textWidth
+        );
+    }
+
+    /**
+     * Retrieve the original lines this layout was computed from
+     *
+     * @return an unmodifiable view of the original lines
+     */
+    public List<String> source() {
+        return source;
+    }
+
+    /**
+     * Retrieve the width the lines were wrapped to
+     *
+     * @return the wrap width, or -1 if not wrapped
+     */
+    public int wrapWidth() {
+        return wrapWidth;
+    }
+
+    /**
+     * Retrieve the amount of resulting lines belonging to the first source line
+     *
+     * @return the amount of title lines
+     */
+    public int titleLinesCount() {
+        return titleLinesCount;
+    }
+
+    /**
+     * Retrieve the width of the widest resulting line
+     *
+     * @return the text width
+     */
+    public int textWidth() {
+        return textWidth;
+    }
+
+    /**
+     * Retrieve the amount of resulting lines to render
+     *
+     * @return the amount of resulting lines
+     */
+    public int size() {
+        return lines.length;
+    }
+
+    /**
+     * Retrieve the resulting line at the specified index
+     *
+     * @param index The index of the line
+     * @return the resulting line
+     */
+    public String getLine(final int index) {
+        return lines[index];
+    }
+
+    /**
+     * Retrieve the rendered width of the resulting line at the specified index
+     *
+     * @param index The index of the line
+     * @return the rendered width of the line
+     */
+    public int getWidth(final int index) {
+        return widths[index];
+    }
+
+    /**
+     * Position and draw each resulting line, starting at the specified coordinates
+     * <p>
+     * This runs on every frame a layout is shown, so it must not allocate; callers pass
+     * their per-draw state as the context rather than capturing it within the sink
+     *
+     * @param context    The caller-supplied state to forward to the sink
+     * @param posX       The starting X position of the text
+     * @param posY       The starting Y position of the text
+     * @param textWidth  The width of the area the lines are drawn within
+     * @param lineHeight The vertical distance between each line
+     * @param isCentered Whether to center each line within the text width
+     * @param titleGap   The extra vertical distance to add after the title lines
+     * @param sink       The function used to draw each positioned line
+     * @param <C>        The type of the caller-supplied state
+     * @return the Y position following the last line
+     */
+    public <C> int drawLines(final C context,
+                             final int posX, final int posY,
+                             final int textWidth, final int lineHeight,
+                             final boolean isCentered, final int titleGap,
+                             final LineSink<C> sink) {
+        int renderY = posY;
+        for (int lineNumber = 0; lineNumber < lines.length; ++lineNumber) {
+            final int renderX = isCentered ? (posX + (textWidth - widths[lineNumber]) / 2) : posX;
+            sink.drawLine(context, lines[lineNumber], renderX, renderY);
+
+            if (lineNumber + 1 == titleLinesCount) {
+                renderY += titleGap;
+            }
+            renderY += lineHeight;
+        }
+        return renderY;
+    }
+
+    /**
+     * Whether this layout was computed from the specified lines and wrap width
+     *
+     * @param lines     The original lines to compare against
+     * @param wrapWidth The wrap width to compare against
+     * @return {@link Boolean#TRUE} if this layout can be reused for the specified arguments
+     */
+    public boolean matches(final List<String> lines, final int wrapWidth) {
+        return this.wrapWidth == wrapWidth && source.equals(lines);
+    }
+
+    /**
+     * Represents a function that draws a single positioned line of a {@link TooltipLayout}
+     *
+     * @param <C> The type of the caller-supplied state
+     * @author CDAGaming
+     */
+    @FunctionalInterface
+    public interface LineSink<C> {
+        /**
+         * Draw the specified line at the specified position
+         *
+         * @param context The caller-supplied state
+         * @param line    The line to draw
+         * @param posX    The X position of the line
+         * @param posY    The Y position of the line
+         */
+        void drawLine(final C context, final String line, final int posX, final int posY);
+    }
+}
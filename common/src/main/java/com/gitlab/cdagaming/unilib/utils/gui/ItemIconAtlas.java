@@ -0,0 +1,245 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.client.renderer.RenderHelper;
+import net.minecraft.client.shader.Framebuffer;
+import net.minecraft.item.ItemStack;
+import org.lwjgl.opengl.GL11;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An atlas of rendered {@link ItemStack} icons, allowing each distinct stack to be drawn as a single textured quad
+ * <p>
+ * Icons are rendered into a framebuffer once, at the current gui scale, and kept until the atlas is full
+ * or the gui scale changes, at which point every icon is discarded and rendered again on demand.
+ * Only the item model is cached, so overlays such as the stack count and durability are drawn as usual.
+ *
+ * @author CDAGaming
+ */
+final class ItemIconAtlas {
+    /**
+     * The size of each icon, in gui units
+     */
+    static final int ICON_SIZE = 16;
+    /**
+     * The amount of icons along each side of the atlas
+     */
+    private static final int ICONS_PER_ROW = 16;
+    /**
+     * The maximum amount of icons held by the atlas
+     */
+    private static final int CAPACITY = ICONS_PER_ROW * ICONS_PER_ROW;
+    /**
+     * The size of each side of the atlas, in gui units
+     */
+    private static final int ATLAS_SIZE = ICON_SIZE * ICONS_PER_ROW;
+    /**
+     * The atlas slot of each rendered icon
+     */
+    private final ItemStackTable<Integer> slots = new ItemStackTable<>();
+    /**
+     * The framebuffer holding the rendered icons, or null if not yet allocated
+     */
+    private Framebuffer framebuffer;
+    /**
+     * The gui scale the icons were rendered at
+     */
+    private int scaleFactor;
+    /**
+     * The next free atlas slot
+     */
+    private int nextSlot;
+
+    /**
+     * Retrieve the atlas slot holding the icon of the specified {@link ItemStack}, rendering it if not yet cached
+     *
+     * @param mc          The current game instance
+     * @param stack       The {@link ItemStack} instance to interpret
+     * @param scaleFactor The current gui scale
+     * @return the atlas slot of the icon, or -1 if the atlas is unavailable
+     */
+    int getSlot(@Nonnull final Minecraft mc, final ItemStack stack, final int scaleFactor) {
+        if (!OpenGlHelper.isFramebufferEnabled()) {
+            return -1;
+        }
+        if (framebuffer == null || this.scaleFactor != scaleFactor) {
+            allocate(scaleFactor);
+        }
+
+        final Integer slot = slots.get(stack);
+        if (slot != null) {
+            return slot;
+        }
+        if (nextSlot >= CAPACITY) {
+            slots.clear();
+            nextSlot = 0;
+        }
+        final int newSlot = nextSlot++;
+        render(mc, stack, newSlot);
+        slots.put(stack, newSlot);
+        return newSlot;
+    }
+
+    /**
+     * Bind the atlas texture for rendering
+     */
+    void bindTexture() {
+        framebuffer.bindFramebufferTexture();
+    }
+
+    /**
+     * Retrieve the minimum horizontal texture coordinate of the specified slot
+     *
+     * @param slot The atlas slot to interpret
+     * @return the minimum horizontal texture coordinate
+     */
+    double getMinU(final int slot) {
+        return (double) (getSlotX(slot) * scaleFactor) / framebuffer.framebufferTextureWidth;
+    }
+
+    /**
+     * Retrieve the maximum horizontal texture coordinate of the specified slot
+     *
+     * @param slot The atlas slot to interpret
+     * @return the maximum horizontal texture coordinate
+     */
+    double getMaxU(final int slot) {
+        return (double) ((getSlotX(slot) + ICON_SIZE) * scaleFactor) / framebuffer.framebufferTextureWidth;
+    }
+
+    /**
+     * Retrieve the vertical texture coordinate of the top edge of the specified slot
+     * <p>
+     * Framebuffer rows start from the bottom, so this is the larger of the two vertical coordinates
+     *
+     * @param slot The atlas slot to interpret
+     * @return the vertical texture coordinate of the top edge
+     */
+    double getTopV(final int slot) {
+        return (double) (framebuffer.framebufferHeight - getSlotY(slot) * scaleFactor) / framebuffer.framebufferTextureHeight;
+    }
+
+    /**
+     * Retrieve the vertical texture coordinate of the bottom edge of the specified slot
+     *
+     * @param slot The atlas slot to interpret
+     * @return the vertical texture coordinate of the bottom edge
+     */
+    double getBottomV(final int slot) {
+        return (double) (framebuffer.framebufferHeight - (getSlotY(slot) + ICON_SIZE) * scaleFactor) / framebuffer.framebufferTextureHeight;
+    }
+
+    /**
+     * Discard every cached icon, releasing the atlas framebuffer
+     */
+    void clear() {
+        if (framebuffer != null) {
+            framebuffer.deleteFramebuffer();
+            framebuffer = null;
+        }
+        slots.clear();
+        nextSlot = 0;
+    }
+
+    /**
+     * Allocate a new, empty atlas framebuffer for the specified gui scale
+     *
+     * @param scaleFactor The gui scale to render icons at
+     */
+    private void allocate(final int scaleFactor) {
+        clear();
+        this.scaleFactor = scaleFactor;
+        framebuffer = new Framebuffer(ATLAS_SIZE * scaleFactor, ATLAS_SIZE * scaleFactor, true);
+        framebuffer.setFramebufferColor(0.0F, 0.0F, 0.0F, 0.0F);
+        framebuffer.setFramebufferFilter(GL11.GL_NEAREST);
+    }
+
+    /**
+     * Render the icon of the specified {@link ItemStack} into the specified slot
+     *
+     * @param mc    The current game instance
+     * @param stack The {@link ItemStack} instance to interpret
+     * @param slot  The atlas slot to render into
+     */
+    private void render(@Nonnull final Minecraft mc, final ItemStack stack, final int slot) {
+        final boolean scissor = GL11.glIsEnabled(GL11.GL_SCISSOR_TEST);
+        GlStateManager.matrixMode(GL11.GL_PROJECTION);
+        GlStateManager.pushMatrix();
+        GlStateManager.loadIdentity();
+        GlStateManager.ortho(0.0D, ATLAS_SIZE, ATLAS_SIZE, 0.0D, 1000.0D, 3000.0D);
+        GlStateManager.matrixMode(GL11.GL_MODELVIEW);
+        GlStateManager.pushMatrix();
+        GlStateManager.loadIdentity();
+        GlStateManager.translate(0.0F, 0.0F, -2000.0F);
+        framebuffer.bindFramebuffer(true);
+        try {
+            if (scissor) {
+                GL11.glDisable(GL11.GL_SCISSOR_TEST);
+            }
+            if (slot == 0) {
+                GlStateManager.clearColor(0.0F, 0.0F, 0.0F, 0.0F);
+                GlStateManager.clearDepth(1.0D);
+                GlStateManager.clear(GL11.GL_COLOR_BUFFER_BIT | GL11.GL_DEPTH_BUFFER_BIT);
+            }
+            RenderHelper.enableGUIStandardItemLighting();
+            mc.getRenderItem().renderItemAndEffectIntoGUI(stack, getSlotX(slot), getSlotY(slot));
+        } finally {
+            mc.getFramebuffer().bindFramebuffer(true);
+            if (scissor) {
+                GL11.glEnable(GL11.GL_SCISSOR_TEST);
+            }
+            GlStateManager.matrixMode(GL11.GL_PROJECTION);
+            GlStateManager.popMatrix();
+            GlStateManager.matrixMode(GL11.GL_MODELVIEW);
+            GlStateManager.popMatrix();
+            RenderHelper.enableGUIStandardItemLighting();
+        }
+    }
+
+    /**
+     * Retrieve the left position of the specified slot, in gui units
+     *
+     * @param slot The atlas slot to interpret
+     * @return the left position of the slot
+     */
+    private static int getSlotX(final int slot) {
+        return (slot % ICONS_PER_ROW) * ICON_SIZE;
+    }
+
+    /**
+     * Retrieve the top position of the specified slot, in gui units
+     *
+     * @param slot The atlas slot to interpret
+     * @return the top position of the slot
+     */
+    private static int getSlotY(final int slot) {
+        return (slot / ICONS_PER_ROW) * ICON_SIZE;
+    }
+}
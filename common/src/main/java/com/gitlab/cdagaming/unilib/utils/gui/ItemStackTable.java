@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A lookup table keyed by the render identity of an {@link ItemStack}, being its item, metadata and NBT data
+ * <p>
+ * Entries are grouped by item and matched by metadata first, so the NBT data of a stack
+ * is only hashed once a stack of the same item and metadata has been stored.
+ * A matching hash is then confirmed against a copy of the stored stack, so colliding NBT data is kept apart.
+ *
+ * @param <V> The type of the stored values
+ * @author CDAGaming
+ */
+final class ItemStackTable<V> {
+    /**
+     * The stored entries, grouped by their item
+     */
+    private final Map<Item, List<Entry<V>>> entries = new IdentityHashMap<>();
+    /**
+     * The amount of stored entries
+     */
+    private int size = 0;
+
+    /**
+     * Retrieve the value stored for the specified {@link ItemStack}
+     *
+     * @param stack The {@link ItemStack} instance to interpret
+     * @return the stored value, or null if none
+     */
+    V get(final ItemStack stack) {
+        final List<Entry<V>> candidates = entries.get(stack.getItem());
+        if (candidates == null) {
+            return null;
+        }
+        final int meta = stack.getMetadata();
+        boolean hashed = false;
+        int tagHash = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            final Entry<V> entry = candidates.get(i);
+            if (entry.meta() == meta) {
+                if (!hashed) {
+                    tagHash = getTagHash(stack);
+                    hashed = true;
+                }
+                if (entry.tagHash() == tagHash && ItemStack.areItemStackTagsEqual(entry.stack(), stack)) {
+                    return entry.value();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Store a value for the specified {@link ItemStack}, replacing any existing value
+     *
+     * @param stack The {@link ItemStack} instance to interpret
+     * @param value The value to store
+     */
+    void put(final ItemStack stack, final V value) {
+        final List<Entry<V>> candidates = entries.computeIfAbsent(stack.getItem(), item -> StringUtils.newArrayList());
+        final int meta = stack.getMetadata();
+        final int tagHash = getTagHash(stack);
+        for (int i = 0; i < candidates.size(); i++) {
+            final Entry<V> entry = candidates.get(i);
+            if (entry.meta() == meta && entry.tagHash() == tagHash && ItemStack.areItemStackTagsEqual(entry.stack(), stack)) {
+                candidates.set(i, new Entry<>(meta, tagHash, entry.stack(), value));
+                return;
+            }
+        }
+        candidates.add(new Entry<>(meta, tagHash, stack.copy(), value));
+        size++;
+    }
+
+    /**
+     * Retrieve whether no values are stored
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all stored values
+     */
+    void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * Retrieve the hash code of the NBT data of the specified {@link ItemStack}
+     *
+     * @param stack The {@link ItemStack} instance to interpret
+     * @return the hash code of the NBT data, or zero if none
+     */
+    private static int getTagHash(final ItemStack stack) {
+        return stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0;
+    }
+
+    /**
+     * Represents a stored value, alongside the metadata, NBT hash and stack it was stored for
+     *
+     * @param meta    The metadata of the stack
+     * @param tagHash The hash code of the stack's NBT data, or zero if none
+     * @param stack   A copy of the stack, used to confirm NBT data with a matching hash
+     * @param value   The stored value
+     * @param <V>     The type of the stored value
+     */
+    private record Entry<V>(int meta, int tagHash, ItemStack stack, V value) {
+    }
+}
@@ -26,9 +26,13 @@ package com.gitlab.cdagaming.unilib.utils.gui;
 
 import com.gitlab.cdagaming.unilib.ModUtils;
 import com.gitlab.cdagaming.unilib.core.CoreUtils;
+import com.gitlab.cdagaming.unilib.core.impl.screen.GlyphWidthTable;
+import com.gitlab.cdagaming.unilib.core.impl.screen.RenderStats;
 import com.gitlab.cdagaming.unilib.core.impl.screen.ScissorStack;
+import com.gitlab.cdagaming.unilib.core.impl.screen.ScissorState;
 import com.gitlab.cdagaming.unilib.core.impl.screen.ScreenConstants;
-import com.gitlab.cdagaming.unilib.core.impl.screen.ScreenRectangle;
+import com.gitlab.cdagaming.unilib.core.impl.screen.StyledText;
+import com.gitlab.cdagaming.unilib.core.impl.screen.TooltipLayout;
 import com.gitlab.cdagaming.unilib.impl.ImageFrame;
 import com.gitlab.cdagaming.unilib.utils.ImageUtils;
 import com.gitlab.cdagaming.unilib.utils.ResourceUtils;
@@ -45,6 +49,7 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.gui.GuiScreen;
 import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GLAllocation;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.client.renderer.Tessellator;
@@ -56,8 +61,10 @@ import org.lwjgl.opengl.GL11;
 import javax.annotation.Nonnull;
 import java.awt.*;
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Rendering Utilities used to Parse Screen Data and handle rendering tasks
@@ -67,17 +74,92 @@ import java.util.Map;
 @SuppressWarnings("DuplicatedCode")
 public class RenderUtils {
     /**
-     * The stack of {@link ScreenRectangle} objects to manage the scissor areas for rendering.
+     * The stack of scissor areas to manage the viewable boundaries for rendering.
      */
     private static final ScissorStack scissorStack = new ScissorStack();
+    /**
+     * The scissor state applied via glScissor, skipping calls that would leave it unchanged
+     */
+    private static final ScissorState scissorState = new ScissorState(new ScissorState.Target() {
+        @Override
+        public void enable() {
+            GL11.glEnable(GL11.GL_SCISSOR_TEST);
+        }
+
+        @Override
+        public void disable() {
+            GL11.glDisable(GL11.GL_SCISSOR_TEST);
+        }
+
+        @Override
+        public void setBox(final int x, final int y, final int width, final int height) {
+            GL11.glScissor(x, y, width, height);
+        }
+    });
+    /**
+     * The cached GUI scale, in the format of [displayWidth,displayHeight,guiScaleSetting,scaleFactor]
+     */
+    private static final int[] guiScaleKey = {-1, -1, -1, 1};
+    /**
+     * The queue of deferred text draws, used while text batching is active
+     */
+    private static final TextDrawQueue textQueue = new TextDrawQueue();
+    /**
+     * The current nesting depth of text batching, with text being drawn immediately when zero
+     */
+    private static int textBatchDepth = 0;
+    /**
+     * The geometry currently being recorded, or null if not recording
+     */
+    private static RetainedGeometry recordingGeometry = null;
+    /**
+     * The last texture bound through {@link RenderUtils#bindTexture(Minecraft, ResourceLocation)}
+     */
+    private static ResourceLocation boundTexture = null;
     /**
      * The Block List for any ItemStacks that have failed to render in {@link RenderUtils#drawItemStack(Minecraft, FontRenderer, int, int, ItemStack, float)}
      */
-    private static final List<ItemStack> BLOCKED_RENDER_ITEMS = StringUtils.newArrayList();
+    private static final ItemStackTable<Boolean> BLOCKED_RENDER_ITEMS = new ItemStackTable<>();
+    /**
+     * The atlas of rendered item icons, used for stacks without an enchantment effect
+     */
+    private static final ItemIconAtlas ITEM_ICONS = new ItemIconAtlas();
+    /**
+     * The current nesting depth of item batching, with item lighting being set up per item when zero
+     */
+    private static int itemBatchDepth = 0;
     /**
      * An active cache for all currently allocated internal Texture Object Results
      */
     private static final Map<String, Tuple<Boolean, String, ResourceLocation>> TEXTURE_CACHE = StringUtils.newHashMap();
+    /**
+     * The amount of recently used {@link TooltipLayout} instances to keep cached
+     */
+    private static final int TOOLTIP_LAYOUT_CACHE_SIZE = 8;
+    /**
+     * The recently used {@link TooltipLayout} instances, used by {@link RenderUtils#getTooltipLayout(FontRenderer, List, int)}
+     */
+    private static final TooltipLayout[] TOOLTIP_LAYOUTS = new TooltipLayout[TOOLTIP_LAYOUT_CACHE_SIZE];
+    /**
+     * The Font Renderer Instances each cached {@link TooltipLayout} was measured with
+     */
+    private static final FontRenderer[] TOOLTIP_LAYOUT_FONTS = new FontRenderer[TOOLTIP_LAYOUT_CACHE_SIZE];
+    /**
+     * The next cache slot to replace when caching a new {@link TooltipLayout}
+     */
+    private static int nextTooltipLayout = 0;
+    /**
+     * The captured glyph width snapshots, per font renderer
+     */
+    private static final Map<FontRenderer, GlyphWidthTable> GLYPH_WIDTHS = StringUtils.newConcurrentHashMap();
+    /**
+     * The maximum amount of parsed {@link StyledText} instances to retain
+     */
+    private static final int STYLED_TEXT_CACHE_SIZE = 1024;
+    /**
+     * The recently parsed {@link StyledText} instances, keyed by their source string
+     */
+    private static final Map<String, StyledText> STYLED_TEXT_CACHE = StringUtils.newConcurrentHashMap();
 
     /**
      * Retrieve the default Screen Textures as Texture Data
@@ -258,6 +340,10 @@ public class RenderUtils {
 
     /**
      * Renders an {@link ItemStack} to the current Screen
+     * <p>
+     * Stacks without an enchantment effect or item property overrides are drawn from an icon atlas,
+     * being rendered into it once, while overlays such as the stack count are always drawn live.
+     * When called within an item batch, the shared lighting state of the batch is used
      *
      * @param client       The current game instance
      * @param fontRenderer The Font Renderer Instance
@@ -267,33 +353,149 @@ public class RenderUtils {
      * @param scale        The Scale to render the Object at
      */
     public static void drawItemStack(@Nonnull final Minecraft client, final FontRenderer fontRenderer, final int x, final int y, final ItemStack stack, final float scale) {
-        if (BLOCKED_RENDER_ITEMS.contains(stack)) return;
+        if (stack == null || (!BLOCKED_RENDER_ITEMS.isEmpty() && BLOCKED_RENDER_ITEMS.get(stack) != null)) return;
+        markUnretainable();
+        final boolean isBatched = itemBatchDepth > 0;
+        GlStateManager.pushMatrix();
         try {
-            GlStateManager.pushMatrix();
             GlStateManager.scale(scale, scale, 1.0f);
-            GlStateManager.enableRescaleNormal();
-            GlStateManager.enableColorMaterial();
-            GlStateManager.enableDepth();
-            RenderHelper.enableGUIStandardItemLighting();
+            if (!isBatched) {
+                setupItemState();
+            }
 
             final int xPos = Math.round(x / scale);
             final int yPos = Math.round(y / scale);
-            client.getRenderItem().renderItemAndEffectIntoGUI(stack, xPos, yPos);
+            if (!drawItemIcon(client, stack, xPos, yPos)) {
+                client.getRenderItem().renderItemAndEffectIntoGUI(stack, xPos, yPos);
+            }
             client.getRenderItem().renderItemOverlays(fontRenderer, stack, xPos, yPos);
-
-            RenderHelper.disableStandardItemLighting();
-            GlStateManager.disableDepth();
-            GlStateManager.disableColorMaterial();
-            GlStateManager.disableRescaleNormal();
-            GlStateManager.popMatrix();
         } catch (Throwable ex) {
             CoreUtils.LOG.debugError(ex);
-            if (!BLOCKED_RENDER_ITEMS.contains(stack)) {
-                BLOCKED_RENDER_ITEMS.add(stack);
+            BLOCKED_RENDER_ITEMS.put(stack, Boolean.TRUE);
+        } finally {
+            if (!isBatched) {
+                restoreItemState();
+            }
+            GlStateManager.popMatrix();
+        }
+    }
+
+    /**
+     * Renders a grid of {@link ItemStack} instances to the current Screen, sharing one lighting state setup
+     *
+     * @param client       The current game instance
+     * @param fontRenderer The Font Renderer Instance
+     * @param x            The Starting X Position of the Grid
+     * @param y            The Starting Y Position of the Grid
+     * @param stacks       The {@link ItemStack} instances to interpret, in row order
+     * @param columns      The amount of items per row
+     * @param cellSize     The width and height of each grid cell
+     * @param scale        The Scale to render each Object at
+     */
+    public static void drawItemGrid(@Nonnull final Minecraft client, final FontRenderer fontRenderer, final int x, final int y, final List<ItemStack> stacks, final int columns, final int cellSize, final float scale) {
+        final int rowSize = Math.max(columns, 1);
+        beginItemBatch();
+        try {
+            for (int i = 0; i < stacks.size(); i++) {
+                drawItemStack(client, fontRenderer,
+                        x + (i % rowSize) * cellSize,
+                        y + (i / rowSize) * cellSize,
+                        stacks.get(i), scale
+                );
             }
+        } finally {
+            endItemBatch();
+        }
+    }
+
+    /**
+     * Begin an item batch, setting up the item lighting state once for all following item renders
+     * <p>
+     * Every call must be paired with {@link RenderUtils#endItemBatch()}
+     */
+    public static void beginItemBatch() {
+        if (itemBatchDepth++ == 0) {
+            setupItemState();
+        }
+    }
+
+    /**
+     * End the current item batch, restoring the render state once the outermost batch ends
+     */
+    public static void endItemBatch() {
+        if (itemBatchDepth > 0 && --itemBatchDepth == 0) {
+            restoreItemState();
         }
     }
 
+    /**
+     * Draws the icon of an {@link ItemStack} from the icon atlas, if it can be cached
+     *
+     * @param client The current game instance
+     * @param stack  The {@link ItemStack} instance to interpret
+     * @param xPos   The Starting X Position of the Object
+     * @param yPos   The Starting Y Position of the Object
+     * @return {@link Boolean#TRUE} if the icon was drawn
+     */
+    private static boolean drawItemIcon(@Nonnull final Minecraft client, final ItemStack stack, final int xPos, final int yPos) {
+        if (stack.hasEffect() || stack.getItem().hasCustomProperties()) {
+            return false;
+        }
+        final int slot = ITEM_ICONS.getSlot(client, stack, computeGuiScale(client));
+        if (slot < 0) {
+            return false;
+        }
+
+        ITEM_ICONS.bindTexture();
+        RenderStats.increment(RenderStats.Counter.TEXTURE_BINDS);
+        setupTextureState();
+        final BufferBuilder buffer = Tessellator.getInstance().getBuffer();
+        buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX_COLOR);
+        putTexture(buffer,
+                xPos, xPos + ItemIconAtlas.ICON_SIZE, yPos, yPos + ItemIconAtlas.ICON_SIZE,
+                client.getRenderItem().zLevel + 100.0D,
+                ITEM_ICONS.getMinU(slot), ITEM_ICONS.getMaxU(slot),
+                ITEM_ICONS.getTopV(slot), ITEM_ICONS.getBottomV(slot),
+                0xFFFFFFFF, 0xFFFFFFFF
+        );
+        Tessellator.getInstance().draw();
+        RenderStats.increment(RenderStats.Counter.DRAW_CALLS);
+        RenderStats.increment(RenderStats.Counter.QUADS);
+        restoreTextureState();
+        // Textured quads disable lighting, which later items within the same item state rely on
+        GlStateManager.enableLighting();
+        return true;
+    }
+
+    /**
+     * Discard every cached item icon, causing them to be rendered again upon their next draw
+     * <p>
+     * This should be called once item models or textures have been reloaded
+     */
+    public static void clearItemIcons() {
+        ITEM_ICONS.clear();
+    }
+
+    /**
+     * Prepare the render state for rendering items
+     */
+    private static void setupItemState() {
+        GlStateManager.enableRescaleNormal();
+        GlStateManager.enableColorMaterial();
+        GlStateManager.enableDepth();
+        RenderHelper.enableGUIStandardItemLighting();
+    }
+
+    /**
+     * Restore the render state after rendering items
+     */
+    private static void restoreItemState() {
+        RenderHelper.disableStandardItemLighting();
+        GlStateManager.disableDepth();
+        GlStateManager.disableColorMaterial();
+        GlStateManager.disableRescaleNormal();
+    }
+
     /**
      * Renders a Gradient Box from the defined arguments
      *
@@ -315,50 +517,126 @@ public class RenderUtils {
                                        final Object borderColor, final Object borderColorEnd,
                                        final int border, final int borderOffset,
                                        final Object contentColor, final Object contentColorEnd) {
+        final Pair<Color, Color> borderData = borderColor != null ? StringUtils.findColor(borderColor, borderColorEnd) : null;
+        final Pair<Color, Color> contentData = contentColor != null ? StringUtils.findColor(contentColor, contentColorEnd) : null;
+        final boolean hasBorder = isValidColorPair(borderData);
+        final boolean hasContent = isValidColorPair(contentData);
+
+        drawGradientBox(
+                posX, posY,
+                width, height,
+                zLevel,
+                hasBorder ? borderData.getFirst().getRGB() : 0, hasBorder ? borderData.getSecond().getRGB() : 0,
+                border, borderOffset,
+                hasContent ? contentData.getFirst().getRGB() : 0, hasContent ? contentData.getSecond().getRGB() : 0
+        );
+    }
+
+    /**
+     * Renders a Gradient Box from the defined arguments
+     *
+     * @param posX            The Starting X Position to render the object
+     * @param posY            The Starting Y Position to render the object
+     * @param width           The full width for the object to render to
+     * @param height          The full height for the object to render to
+     * @param zLevel          The Z level position for the object to render at
+     * @param borderColor     The starting border color for the object
+     * @param borderColorEnd  The ending border color for the object
+     * @param border          The full width of the border for the object
+     * @param contentColor    The starting content color for the object
+     * @param contentColorEnd The ending content color for the object
+     */
+    public static void drawGradientBox(final double posX, final double posY,
+                                       final double width, final double height,
+                                       final double zLevel,
+                                       final Object borderColor, final Object borderColorEnd,
+                                       final int border,
+                                       final Object contentColor, final Object contentColorEnd) {
+        drawGradientBox(
+                posX, posY,
+                width, height,
+                zLevel,
+                borderColor, borderColorEnd,
+                border, 0,
+                contentColor, contentColorEnd
+        );
+    }
+
+    /**
+     * Renders a Gradient Box from the defined arguments
+     * <p>Sections with a fully transparent starting and ending color are skipped
+     *
+     * @param posX            The Starting X Position to render the object
+     * @param posY            The Starting Y Position to render the object
+     * @param width           The full width for the object to render to
+     * @param height          The full height for the object to render to
+     * @param zLevel          The Z level position for the object to render at
+     * @param borderColor     The starting packed ARGB border color for the object
+     * @param borderColorEnd  The ending packed ARGB border color for the object
+     * @param border          The full width of the border for the object
+     * @param borderOffset    The offset to apply to the vertical border bounds (Useful for Drop Shadows)
+     * @param contentColor    The starting packed ARGB content color for the object
+     * @param contentColorEnd The ending packed ARGB content color for the object
+     */
+    public static void drawGradientBox(final double posX, final double posY,
+                                       final double width, final double height,
+                                       final double zLevel,
+                                       final int borderColor, final int borderColorEnd,
+                                       final int border, final int borderOffset,
+                                       final int contentColor, final int contentColorEnd) {
+        final boolean hasBorder = isVisibleColor(borderColor, borderColorEnd);
+        final boolean hasContent = isVisibleColor(contentColor, contentColorEnd);
+        if (!hasBorder && !hasContent) {
+            return;
+        }
+
         final double canvasWidth = width - (border * 2);
         final double canvasHeight = height - (border * 2);
 
         final double canvasRight = posX + border + canvasWidth;
         final double canvasBottom = posY + border + canvasHeight;
 
+        final BufferBuilder buffer = beginGradientBatch();
         // Draw Borders
-        if (borderColor != null) {
+        if (hasBorder) {
             // Top Left
-            drawGradient(posX, posX + border, posY + border, canvasBottom, zLevel, borderColor, borderColorEnd);
+            putGradient(buffer, posX, posX + border, posY + border, canvasBottom, zLevel, borderColor, borderColorEnd);
             // Top Right
-            drawGradient(canvasRight, canvasRight + border, posY + border, canvasBottom, zLevel, borderColor, borderColorEnd);
+            putGradient(buffer, canvasRight, canvasRight + border, posY + border, canvasBottom, zLevel, borderColor, borderColorEnd);
             // Bottom Left
-            drawGradient(posX - borderOffset, canvasRight + border + borderOffset, canvasBottom, canvasBottom + border, zLevel, borderColorEnd, borderColorEnd);
+            putGradient(buffer, posX - borderOffset, canvasRight + border + borderOffset, canvasBottom, canvasBottom + border, zLevel, borderColorEnd, borderColorEnd);
             // Bottom Right
-            drawGradient(posX - borderOffset, canvasRight + border + borderOffset, posY, posY + border, zLevel, borderColor, borderColor);
+            putGradient(buffer, posX - borderOffset, canvasRight + border + borderOffset, posY, posY + border, zLevel, borderColor, borderColor);
         }
 
         // Draw Content Box
-        if (contentColor != null) {
-            drawGradient(posX + border, canvasRight, posY + border, canvasBottom, zLevel, contentColor, contentColorEnd);
+        if (hasContent) {
+            putGradient(buffer, posX + border, canvasRight, posY + border, canvasBottom, zLevel, contentColor, contentColorEnd);
         }
+        endGradientBatch();
     }
 
     /**
      * Renders a Gradient Box from the defined arguments
+     * <p>Sections with a fully transparent starting and ending color are skipped
      *
      * @param posX            The Starting X Position to render the object
      * @param posY            The Starting Y Position to render the object
      * @param width           The full width for the object to render to
      * @param height          The full height for the object to render to
      * @param zLevel          The Z level position for the object to render at
-     * @param borderColor     The starting border color for the object
-     * @param borderColorEnd  The ending border color for the object
+     * @param borderColor     The starting packed ARGB border color for the object
+     * @param borderColorEnd  The ending packed ARGB border color for the object
      * @param border          The full width of the border for the object
-     * @param contentColor    The starting content color for the object
-     * @param contentColorEnd The ending content color for the object
+     * @param contentColor    The starting packed ARGB content color for the object
+     * @param contentColorEnd The ending packed ARGB content color for the object
      */
     public static void drawGradientBox(final double posX, final double posY,
                                        final double width, final double height,
                                        final double zLevel,
-                                       final Object borderColor, final Object borderColorEnd,
+                                       final int borderColor, final int borderColorEnd,
                                        final int border,
-                                       final Object contentColor, final Object contentColorEnd) {
+                                       final int contentColor, final int contentColorEnd) {
         drawGradientBox(
                 posX, posY,
                 width, height,
@@ -369,8 +647,21 @@ public class RenderUtils {
         );
     }
 
+    /**
+     * Whether either of the specified packed ARGB colors would produce visible output
+     *
+     * @param startColor The starting packed ARGB color
+     * @param endColor   The ending packed ARGB color
+     * @return {@link Boolean#TRUE} if either color has a non-zero alpha channel
+     */
+    private static boolean isVisibleColor(final int startColor, final int endColor) {
+        return ScreenConstants.getAlpha(startColor) != 0 || ScreenConstants.getAlpha(endColor) != 0;
+    }
+
     /**
      * Renders a Button Object from the defined arguments
+     * <p>
+     * Both halves of the button are drawn in a single batch, allowing them to be retained
      *
      * @param mc          The current game instance
      * @param x           The Starting X Position to render the button
@@ -391,30 +682,26 @@ public class RenderUtils {
                                     final double width, final double height,
                                     final double zLevel,
                                     final ResourceLocation texLocation) {
-        try {
-            if (ResourceUtils.isValidResource(texLocation)) {
-                final Pair<Boolean, Integer> data = StringUtils.getValidInteger(texLocation);
-                if (data.getFirst()) {
-                    GlStateManager.bindTexture(data.getSecond());
-                } else {
-                    mc.getTextureManager().bindTexture(texLocation);
-                }
-            } else {
-                return;
-            }
-        } catch (Exception ignored) {
+        if (!bindTexture(mc, texLocation)) {
             return;
         }
-        GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
-        GlStateManager.enableBlend();
-        GlStateManager.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
-        GlStateManager.enableDepth();
 
-        blit(x, y, zLevel, startU, startV, width, height);
-        blit(x + width, y, zLevel, endU, endV, width, height);
-
-        GlStateManager.disableDepth();
-        GlStateManager.disableBlend();
+        final BufferBuilder buffer = beginTextureBatch();
+        putTexture(buffer,
+                x, x + width, y, y + height,
+                zLevel,
+                getUVCoord(startU, 256), getUVCoord(startU + width, 256),
+                getUVCoord(startV, 256), getUVCoord(startV + height, 256),
+                0xFFFFFFFF, 0xFFFFFFFF
+        );
+        putTexture(buffer,
+                x + width, x + width + width, y, y + height,
+                zLevel,
+                getUVCoord(endU, 256), getUVCoord(endU + width, 256),
+                getUVCoord(endV, 256), getUVCoord(endV + height, 256),
+                0xFFFFFFFF, 0xFFFFFFFF
+        );
+        endTextureBatch();
     }
 
     /**
@@ -441,58 +728,62 @@ public class RenderUtils {
                                    final double minU, final double maxU, final double minV, final double maxV,
                                    final Object startColorObj, final Object endColorObj,
                                    final ResourceLocation texLocation) {
+        final Pair<Color, Color> colorData = StringUtils.findColor(startColorObj, endColorObj);
+        final Color startColor = colorData.getFirst();
+        final Color endColor = colorData.getSecond();
+        if (startColor == null || endColor == null) {
+            return;
+        }
+
+        drawTexture(mc,
+                left, right, top, bottom,
+                zLevel, asFullTexture,
+                minU, maxU,
+                minV, maxV,
+                startColor.getRGB(), endColor.getRGB(),
+                texLocation
+        );
+    }
+
+    /**
+     * Draws a Textured Rectangle, following the defined arguments
+     *
+     * @param mc            The current game instance
+     * @param left          The Left Position of the Object
+     * @param right         The Right Position of the Object
+     * @param top           The Top Position of the Object
+     * @param bottom        The Bottom Position of the Object
+     * @param zLevel        The Z Level Position of the Object
+     * @param asFullTexture Whether to render as full-texture or color-only
+     * @param minU          The minimum horizontal axis to render this Object by
+     * @param maxU          The maximum horizontal axis to render this Object by
+     * @param minV          The minimum vertical axis to render this Object by
+     * @param maxV          The minimum vertical axis to render this Object by
+     * @param startColor    The starting packed ARGB texture color
+     * @param endColor      The ending packed ARGB texture color
+     * @param texLocation   The game texture to render the object as
+     */
+    public static void drawTexture(@Nonnull final Minecraft mc,
+                                   final double left, final double right, final double top, final double bottom,
+                                   final double zLevel, final boolean asFullTexture,
+                                   final double minU, final double maxU, final double minV, final double maxV,
+                                   final int startColor, final int endColor,
+                                   final ResourceLocation texLocation) {
         if (!asFullTexture) {
             drawGradient(
                     left, right, top, bottom,
                     zLevel,
-                    startColorObj, endColorObj
+                    startColor, endColor
             );
             return;
         }
 
-        try {
-            if (ResourceUtils.isValidResource(texLocation)) {
-                final Pair<Boolean, Integer> data = StringUtils.getValidInteger(texLocation);
-                if (data.getFirst()) {
-                    GlStateManager.bindTexture(data.getSecond());
-                } else {
-                    mc.getTextureManager().bindTexture(texLocation);
-                }
-            } else {
-                return;
-            }
-        } catch (Exception ignored) {
-            return;
-        }
-
-        final Pair<Color, Color> colorData = StringUtils.findColor(startColorObj, endColorObj);
-        final Color startColor = colorData.getFirst();
-        final Color endColor = colorData.getSecond();
-        if (startColor == null || endColor == null) {
+        if (!bindTexture(mc, texLocation)) {
             return;
         }
 
-        GlStateManager.enableBlend();
-        GlStateManager.disableAlpha();
-        GlStateManager.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
-        GlStateManager.shadeModel(GL11.GL_SMOOTH);
-
-        GlStateManager.disableLighting();
-        GlStateManager.disableFog();
-        GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
-
-        final Tessellator tessellator = Tessellator.getInstance();
-        final BufferBuilder buffer = tessellator.getBuffer();
-        buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX_COLOR);
-        buffer.pos(left, bottom, zLevel).tex(minU, maxV).color(endColor.getRed(), endColor.getGreen(), endColor.getBlue(), endColor.getAlpha()).endVertex();
-        buffer.pos(right, bottom, zLevel).tex(maxU, maxV).color(endColor.getRed(), endColor.getGreen(), endColor.getBlue(), endColor.getAlpha()).endVertex();
-        buffer.pos(right, top, zLevel).tex(maxU, minV).color(startColor.getRed(), startColor.getGreen(), startColor.getBlue(), startColor.getAlpha()).endVertex();
-        buffer.pos(left, top, zLevel).tex(minU, minV).color(startColor.getRed(), startColor.getGreen(), startColor.getBlue(), startColor.getAlpha()).endVertex();
-        tessellator.draw();
-
-        GlStateManager.shadeModel(GL11.GL_FLAT);
-        GlStateManager.disableBlend();
-        GlStateManager.disableAlpha();
+        putTexture(beginTextureBatch(), left, right, top, bottom, zLevel, minU, maxU, minV, maxV, startColor, endColor);
+        endTextureBatch();
     }
 
     /**
@@ -570,6 +861,48 @@ public class RenderUtils {
         );
     }
 
+    /**
+     * Draws a Textured Rectangle, following the defined arguments
+     *
+     * @param mc                   The current game instance
+     * @param left                 The Left Position of the Object
+     * @param right                The Right Position of the Object
+     * @param top                  The Top Position of the Object
+     * @param bottom               The Bottom Position of the Object
+     * @param zLevel               The Z Level Position of the Object
+     * @param asFullTexture        Whether to render as full-texture or color-only
+     * @param usingExternalTexture Whether we are using a non-local/external texture
+     * @param regionWidth          The Width of the Texture Region
+     * @param regionHeight         The Height of the Texture Region
+     * @param u                    The U Mapping Value
+     * @param v                    The V Mapping Value
+     * @param textureWidth         The Width of the Texture
+     * @param textureHeight        The Height of the Texture
+     * @param startColor           The starting packed ARGB texture color
+     * @param endColor             The ending packed ARGB texture color
+     * @param texLocation          The game texture to render the object as
+     */
+    public static void drawTexture(@Nonnull final Minecraft mc,
+                                   final double left, final double right, final double top, final double bottom,
+                                   final double zLevel, final boolean asFullTexture,
+                                   final boolean usingExternalTexture,
+                                   final double regionWidth, final double regionHeight,
+                                   final double u, final double v,
+                                   final double textureWidth, final double textureHeight,
+                                   final int startColor, final int endColor,
+                                   final ResourceLocation texLocation) {
+        drawTexture(mc,
+                left, right, top, bottom,
+                zLevel, asFullTexture,
+                getUVCoord(u + 0.0D, 0.0D, usingExternalTexture, textureWidth),
+                getUVCoord(u + regionWidth, 1.0D, usingExternalTexture, textureWidth),
+                getUVCoord(v + 0.0D, 0.0D, usingExternalTexture, textureHeight),
+                getUVCoord(v + regionHeight, 1.0D, usingExternalTexture, textureHeight),
+                startColor, endColor,
+                texLocation
+        );
+    }
+
     /**
      * Draws a Textured Rectangle, following the defined arguments
      *
@@ -671,6 +1004,37 @@ public class RenderUtils {
         );
     }
 
+    /**
+     * Draws a Textured Rectangle, following the defined arguments
+     *
+     * @param mc                   The current game instance
+     * @param left                 The Left Position of the Object
+     * @param right                The Right Position of the Object
+     * @param top                  The Top Position of the Object
+     * @param bottom               The Bottom Position of the Object
+     * @param zLevel               The Z Level Position of the Object
+     * @param usingExternalTexture Whether we are using a non-local/external texture
+     * @param startColor           The starting packed ARGB texture color
+     * @param endColor             The ending packed ARGB texture color
+     * @param texLocation          The game texture to render the object as
+     */
+    public static void drawTexture(@Nonnull final Minecraft mc,
+                                   final double left, final double right, final double top, final double bottom,
+                                   final double zLevel, final boolean usingExternalTexture,
+                                   final int startColor, final int endColor,
+                                   final ResourceLocation texLocation) {
+        drawTexture(mc,
+                left, right, top, bottom,
+                zLevel, true,
+                usingExternalTexture,
+                right - left, bottom - top,
+                left, top,
+                32.0D, 32.0D,
+                startColor, endColor,
+                texLocation
+        );
+    }
+
     /**
      * Draws a Gradient Rectangle, following the defined arguments
      *
@@ -692,22 +1056,240 @@ public class RenderUtils {
             return;
         }
 
+        drawGradient(
+                left, right, top, bottom,
+                zLevel,
+                startColor.getRGB(), endColor.getRGB()
+        );
+    }
+
+    /**
+     * Draws a Gradient Rectangle, following the defined arguments
+     *
+     * @param left       The Left side length of the Object
+     * @param right      The Right side length of the Object
+     * @param top        The top length of the Object
+     * @param bottom     The bottom length of the Object
+     * @param zLevel     The Z Level Position of the Object
+     * @param startColor The Starting packed ARGB Color
+     * @param endColor   The Ending packed ARGB Color
+     */
+    public static void drawGradient(final double left, final double right, final double top, final double bottom,
+                                    final double zLevel,
+                                    final int startColor, final int endColor) {
+        putGradient(beginGradientBatch(), left, right, top, bottom, zLevel, startColor, endColor);
+        endGradientBatch();
+    }
+
+    /**
+     * Draws a textured frame, consisting of four edges surrounding an empty center, in a single draw
+     * <p>Texture coordinates for each edge follow {@link RenderUtils#drawTexture(Minecraft, double, double, double, double, double, boolean, int, int, ResourceLocation)}
+     *
+     * @param mc                   The current game instance
+     * @param left                 The Left Position of the Object
+     * @param right                The Right Position of the Object
+     * @param top                  The Top Position of the Object
+     * @param bottom               The Bottom Position of the Object
+     * @param zLevel               The Z Level Position of the Object
+     * @param border               The width of each edge of the frame
+     * @param usingExternalTexture Whether we are using a non-local/external texture
+     * @param startColor           The starting packed ARGB texture color
+     * @param endColor             The ending packed ARGB texture color
+     * @param texLocation          The game texture to render the object as
+     */
+    public static void drawTextureFrame(@Nonnull final Minecraft mc,
+                                        final double left, final double right, final double top, final double bottom,
+                                        final double zLevel, final double border,
+                                        final boolean usingExternalTexture,
+                                        final int startColor, final int endColor,
+                                        final ResourceLocation texLocation) {
+        if (!bindTexture(mc, texLocation)) {
+            return;
+        }
+
+        final BufferBuilder buffer = beginTextureBatch();
+        // Left Border
+        putTiledTexture(buffer, left, left + border, top, bottom, zLevel, usingExternalTexture, startColor, endColor);
+        // Right Border
+        putTiledTexture(buffer, right - border, right, top, bottom, zLevel, usingExternalTexture, startColor, endColor);
+        // Bottom Border
+        putTiledTexture(buffer, left, right, bottom - border, bottom, zLevel, usingExternalTexture, startColor, endColor);
+        // Top Border
+        putTiledTexture(buffer, left, right, top, top + border, zLevel, usingExternalTexture, startColor, endColor);
+        endTextureBatch();
+    }
+
+    /**
+     * Draws a nine-slice textured rectangle in a single draw, where the corners of the texture region
+     * keep their size while the edges and center are stretched to fill the specified area
+     *
+     * @param mc            The current game instance
+     * @param left          The Left Position of the Object
+     * @param top           The Top Position of the Object
+     * @param width         The full width for the object to render to
+     * @param height        The full height for the object to render to
+     * @param zLevel        The Z Level Position of the Object
+     * @param border        The size of each corner of the texture region
+     * @param u             The U Mapping Value
+     * @param v             The V Mapping Value
+     * @param regionWidth   The Width of the Texture Region
+     * @param regionHeight  The Height of the Texture Region
+     * @param textureWidth  The Width of the Texture
+     * @param textureHeight The Height of the Texture
+     * @param color         The packed ARGB texture color
+     * @param texLocation   The game texture to render the object as
+     */
+    public static void drawNineSlice(@Nonnull final Minecraft mc,
+                                     final double left, final double top,
+                                     final double width, final double height,
+                                     final double zLevel, final double border,
+                                     final double u, final double v,
+                                     final double regionWidth, final double regionHeight,
+                                     final double textureWidth, final double textureHeight,
+                                     final int color,
+                                     final ResourceLocation texLocation) {
+        if (!bindTexture(mc, texLocation)) {
+            return;
+        }
+
+        final double insetX = Math.min(border, width / 2.0D);
+        final double insetY = Math.min(border, height / 2.0D);
+        final BufferBuilder buffer = beginTextureBatch();
+        for (int row = 0; row < 3; row++) {
+            final double sliceTop = getSliceCoord(row, top, height, insetY);
+            final double sliceBottom = getSliceCoord(row + 1, top, height, insetY);
+            if (sliceBottom <= sliceTop) continue;
+
+            for (int column = 0; column < 3; column++) {
+                final double sliceLeft = getSliceCoord(column, left, width, insetX);
+                final double sliceRight = getSliceCoord(column + 1, left, width, insetX);
+                if (sliceRight <= sliceLeft) continue;
+
+                putTexture(buffer,
+                        sliceLeft, sliceRight, sliceTop, sliceBottom,
+                        zLevel,
+                        getUVCoord(getSliceCoord(column, u, regionWidth, border), textureWidth),
+                        getUVCoord(getSliceCoord(column + 1, u, regionWidth, border), textureWidth),
+                        getUVCoord(getSliceCoord(row, v, regionHeight, border), textureHeight),
+                        getUVCoord(getSliceCoord(row + 1, v, regionHeight, border), textureHeight),
+                        color, color
+                );
+            }
+        }
+        endTextureBatch();
+    }
+
+    /**
+     * Draws a Scrollbar, consisting of its track, border and foreground, in a single draw
+     *
+     * @param left           The Left Position of the Scrollbar
+     * @param right          The Right Position of the Scrollbar
+     * @param top            The Top Position of the Scrollbar track
+     * @param bottom         The Bottom Position of the Scrollbar track
+     * @param barTop         The Top Position of the Scrollbar foreground
+     * @param barBottom      The Bottom Position of the Scrollbar foreground
+     * @param zLevel         The Z Level Position of the Object
+     * @param trackColor     The starting packed ARGB color of the track
+     * @param trackColorEnd  The ending packed ARGB color of the track
+     * @param borderColor    The starting packed ARGB color of the border
+     * @param borderColorEnd The ending packed ARGB color of the border
+     * @param barColor       The starting packed ARGB color of the foreground
+     * @param barColorEnd    The ending packed ARGB color of the foreground
+     */
+    public static void drawScrollbar(final double left, final double right,
+                                     final double top, final double bottom,
+                                     final double barTop, final double barBottom,
+                                     final double zLevel,
+                                     final int trackColor, final int trackColorEnd,
+                                     final int borderColor, final int borderColorEnd,
+                                     final int barColor, final int barColorEnd) {
+        final BufferBuilder buffer = beginGradientBatch();
+        putGradient(buffer, left, right, top, bottom, zLevel, trackColor, trackColorEnd);
+        putGradient(buffer, left, right, barTop, barBottom, zLevel, borderColor, borderColorEnd);
+        putGradient(buffer, left, right - 1, barTop, barBottom - 1, zLevel, barColor, barColorEnd);
+        endGradientBatch();
+    }
+
+    /**
+     * Retrieve a coordinate along a nine-slice axis
+     *
+     * @param index The index of the coordinate, from 0 (start) to 3 (end)
+     * @param start The starting coordinate of the axis
+     * @param size  The full size of the axis
+     * @param inset The size of the corner slices along the axis
+     * @return the resulting coordinate
+     */
+    private static double getSliceCoord(final int index, final double start, final double size, final double inset) {
+        return switch (index) {
+            case 0 -> start;
+            case 1 -> start + inset;
+            case 2 -> start + size - inset;
+            default -> start + size;
+        };
+    }
+
+    /**
+     * Bind the specified texture for rendering, if possible
+     *
+     * @param mc          The current game instance
+     * @param texLocation The game texture to bind
+     * @return {@link Boolean#TRUE} if the texture was bound
+     */
+    private static boolean bindTexture(@Nonnull final Minecraft mc, final ResourceLocation texLocation) {
+        try {
+            if (ResourceUtils.isValidResource(texLocation)) {
+                final Pair<Boolean, Integer> data = StringUtils.getValidInteger(texLocation);
+                if (data.getFirst()) {
+                    GlStateManager.bindTexture(data.getSecond());
+                } else {
+                    mc.getTextureManager().bindTexture(texLocation);
+                }
+                boundTexture = texLocation;
+                RenderStats.increment(RenderStats.Counter.TEXTURE_BINDS);
+                return true;
+            }
+        } catch (Exception ignored) {
+        }
+        return false;
+    }
+
+    /**
+     * Prepare the render state and vertex buffer for a batch of gradient quads
+     *
+     * @return the vertex buffer to append quads to
+     */
+    private static BufferBuilder beginGradientBatch() {
+        setupGradientState();
+
+        final BufferBuilder buffer = Tessellator.getInstance().getBuffer();
+        buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_COLOR);
+        return buffer;
+    }
+
+    /**
+     * Draw the current batch of gradient quads and restore the render state
+     */
+    private static void endGradientBatch() {
+        drawBatch(null);
+        restoreGradientState();
+    }
+
+    /**
+     * Prepare the render state for gradient quads
+     */
+    private static void setupGradientState() {
         GlStateManager.disableDepth();
         GlStateManager.disableTexture2D();
         GlStateManager.enableBlend();
         GlStateManager.disableAlpha();
         GlStateManager.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
         GlStateManager.shadeModel(GL11.GL_SMOOTH);
+    }
 
-        final Tessellator tessellator = Tessellator.getInstance();
-        final BufferBuilder buffer = tessellator.getBuffer();
-        buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_COLOR);
-        buffer.pos(left, bottom, zLevel).color(endColor.getRed(), endColor.getGreen(), endColor.getBlue(), endColor.getAlpha()).endVertex();
-        buffer.pos(right, bottom, zLevel).color(endColor.getRed(), endColor.getGreen(), endColor.getBlue(), endColor.getAlpha()).endVertex();
-        buffer.pos(right, top, zLevel).color(startColor.getRed(), startColor.getGreen(), startColor.getBlue(), startColor.getAlpha()).endVertex();
-        buffer.pos(left, top, zLevel).color(startColor.getRed(), startColor.getGreen(), startColor.getBlue(), startColor.getAlpha()).endVertex();
-        tessellator.draw();
-
+    /**
+     * Restore the render state after drawing gradient quads
+     */
+    private static void restoreGradientState() {
         GlStateManager.shadeModel(GL11.GL_FLAT);
         GlStateManager.disableBlend();
         GlStateManager.enableAlpha();
@@ -715,6 +1297,244 @@ public class RenderUtils {
         GlStateManager.enableDepth();
     }
 
+    /**
+     * Prepare the render state and vertex buffer for a batch of textured quads
+     *
+     * @return the vertex buffer to append quads to
+     */
+    private static BufferBuilder beginTextureBatch() {
+        setupTextureState();
+
+        final BufferBuilder buffer = Tessellator.getInstance().getBuffer();
+        buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX_COLOR);
+        return buffer;
+    }
+
+    /**
+     * Draw the current batch of textured quads and restore the render state
+     */
+    private static void endTextureBatch() {
+        drawBatch(boundTexture);
+        restoreTextureState();
+    }
+
+    /**
+     * Prepare the render state for textured quads
+     */
+    private static void setupTextureState() {
+        GlStateManager.enableBlend();
+        GlStateManager.disableAlpha();
+        GlStateManager.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        GlStateManager.shadeModel(GL11.GL_SMOOTH);
+
+        GlStateManager.disableLighting();
+        GlStateManager.disableFog();
+        GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+    }
+
+    /**
+     * Restore the render state after drawing textured quads
+     */
+    private static void restoreTextureState() {
+        GlStateManager.shadeModel(GL11.GL_FLAT);
+        GlStateManager.disableBlend();
+        GlStateManager.disableAlpha();
+    }
+
+    /**
+     * Draw the current contents of the vertex buffer, compiling them into the geometry being recorded, if any
+     *
+     * @param texture The texture bound for this batch, or null for color-only batches
+     */
+    private static void drawBatch(final ResourceLocation texture) {
+        if (RenderStats.isEnabled()) {
+            RenderStats.increment(RenderStats.Counter.DRAW_CALLS);
+            RenderStats.add(RenderStats.Counter.QUADS, Tessellator.getInstance().getBuffer().getVertexCount() / 4);
+        }
+        if (recordingGeometry == null) {
+            Tessellator.getInstance().draw();
+            return;
+        }
+
+        final int displayList = GLAllocation.generateDisplayLists(1);
+        GlStateManager.glNewList(displayList, GL11.GL_COMPILE);
+        Tessellator.getInstance().draw();
+        GlStateManager.glEndList();
+        GlStateManager.callList(displayList);
+        recordingGeometry.addBatch(displayList, texture);
+    }
+
+    /**
+     * Begin drawing content that may be retained within the specified geometry
+     * <p>
+     * If the geometry holds a valid recording, it is replayed and no further drawing is required.
+     * Otherwise, the content should be drawn as usual, followed by {@link RenderUtils#endRetained(RetainedGeometry)},
+     * with any batches drawn in the meantime being recorded for later frames.
+     *
+     * @param mc       The Minecraft Instance
+     * @param geometry The geometry to replay or record into
+     * @return {@link Boolean#TRUE} if the content should be drawn
+     */
+    public static boolean beginRetained(@Nonnull final Minecraft mc, final RetainedGeometry geometry) {
+        if (recordingGeometry != null || !geometry.isRetainable()) {
+            return true;
+        } else if (geometry.isValid()) {
+            replayRetained(mc, geometry);
+            return false;
+        }
+        recordingGeometry = geometry;
+        return true;
+    }
+
+    /**
+     * Finish drawing content that may be retained within the specified geometry
+     *
+     * @param geometry The geometry being recorded into
+     */
+    public static void endRetained(final RetainedGeometry geometry) {
+        if (recordingGeometry == geometry) {
+            recordingGeometry = null;
+            geometry.finishRecording();
+        }
+    }
+
+    /**
+     * Replay the recorded batches of the specified geometry
+     *
+     * @param mc       The Minecraft Instance
+     * @param geometry The geometry to replay
+     */
+    private static void replayRetained(@Nonnull final Minecraft mc, final RetainedGeometry geometry) {
+        for (int i = 0; i < geometry.size(); i++) {
+            final ResourceLocation texture = geometry.getTexture(i);
+            if (texture == null) {
+                setupGradientState();
+                RenderStats.increment(RenderStats.Counter.DRAW_CALLS);
+                GlStateManager.callList(geometry.getDisplayList(i));
+                restoreGradientState();
+            } else if (bindTexture(mc, texture)) {
+                setupTextureState();
+                RenderStats.increment(RenderStats.Counter.DRAW_CALLS);
+                GlStateManager.callList(geometry.getDisplayList(i));
+                restoreTextureState();
+            }
+        }
+    }
+
+    /**
+     * Abandon the geometry being recorded, if any, as content that cannot be retained is being drawn
+     */
+    private static void markUnretainable() {
+        if (recordingGeometry != null) {
+            recordingGeometry.markUnretainable();
+        }
+    }
+
+    /**
+     * Append a gradient quad to the specified vertex buffer
+     *
+     * @param buffer     The vertex buffer to append to
+     * @param left       The Left Position of the Object
+     * @param right      The Right Position of the Object
+     * @param top        The Top Position of the Object
+     * @param bottom     The Bottom Position of the Object
+     * @param zLevel     The Z Level Position of the Object
+     * @param startColor The Starting packed ARGB Color
+     * @param endColor   The Ending packed ARGB Color
+     */
+    private static void putGradient(final BufferBuilder buffer,
+                                    final double left, final double right, final double top, final double bottom,
+                                    final double zLevel,
+                                    final int startColor, final int endColor) {
+        final int startRed = ScreenConstants.getRed(startColor);
+        final int startGreen = ScreenConstants.getGreen(startColor);
+        final int startBlue = ScreenConstants.getBlue(startColor);
+        final int startAlpha = ScreenConstants.getAlpha(startColor);
+        final int endRed = ScreenConstants.getRed(endColor);
+        final int endGreen = ScreenConstants.getGreen(endColor);
+        final int endBlue = ScreenConstants.getBlue(endColor);
+        final int endAlpha = ScreenConstants.getAlpha(endColor);
+
+        buffer.pos(left, bottom, zLevel).color(endRed, endGreen, endBlue, endAlpha).endVertex();
+        buffer.pos(right, bottom, zLevel).color(endRed, endGreen, endBlue, endAlpha).endVertex();
+        buffer.pos(right, top, zLevel).color(startRed, startGreen, startBlue, startAlpha).endVertex();
+        buffer.pos(left, top, zLevel).color(startRed, startGreen, startBlue, startAlpha).endVertex();
+    }
+
+    /**
+     * Append a textured quad to the specified vertex buffer
+     *
+     * @param buffer     The vertex buffer to append to
+     * @param left       The Left Position of the Object
+     * @param right      The Right Position of the Object
+     * @param top        The Top Position of the Object
+     * @param bottom     The Bottom Position of the Object
+     * @param zLevel     The Z Level Position of the Object
+     * @param minU       The minimum horizontal axis to render this Object by
+     * @param maxU       The maximum horizontal axis to render this Object by
+     * @param minV       The minimum vertical axis to render this Object by
+     * @param maxV       The minimum vertical axis to render this Object by
+     * @param startColor The starting packed ARGB texture color
+     * @param endColor   The ending packed ARGB texture color
+     */
+    private static void putTexture(final BufferBuilder buffer,
+                                   final double left, final double right, final double top, final double bottom,
+                                   final double zLevel,
+                                   final double minU, final double maxU, final double minV, final double maxV,
+                                   final int startColor, final int endColor) {
+        final int startRed = ScreenConstants.getRed(startColor);
+        final int startGreen = ScreenConstants.getGreen(startColor);
+        final int startBlue = ScreenConstants.getBlue(startColor);
+        final int startAlpha = ScreenConstants.getAlpha(startColor);
+        final int endRed = ScreenConstants.getRed(endColor);
+        final int endGreen = ScreenConstants.getGreen(endColor);
+        final int endBlue = ScreenConstants.getBlue(endColor);
+        final int endAlpha = ScreenConstants.getAlpha(endColor);
+
+        buffer.pos(left, bottom, zLevel).tex(minU, maxV).color(endRed, endGreen, endBlue, endAlpha).endVertex();
+        buffer.pos(right, bottom, zLevel).tex(maxU, maxV).color(endRed, endGreen, endBlue, endAlpha).endVertex();
+        buffer.pos(right, top, zLevel).tex(maxU, minV).color(startRed, startGreen, startBlue, startAlpha).endVertex();
+        buffer.pos(left, top, zLevel).tex(minU, minV).color(startRed, startGreen, startBlue, startAlpha).endVertex();
+    }
+
+    /**
+     * Append a textured quad to the specified vertex buffer, tiling a 32x32 texture by screen position
+     *
+     * @param buffer               The vertex buffer to append to
+     * @param left                 The Left Position of the Object
+     * @param right                The Right Position of the Object
+     * @param top                  The Top Position of the Object
+     * @param bottom               The Bottom Position of the Object
+     * @param zLevel               The Z Level Position of the Object
+     * @param usingExternalTexture Whether we are using a non-local/external texture
+     * @param startColor           The starting packed ARGB texture color
+     * @param endColor             The ending packed ARGB texture color
+     */
+    private static void putTiledTexture(final BufferBuilder buffer,
+                                        final double left, final double right, final double top, final double bottom,
+                                        final double zLevel, final boolean usingExternalTexture,
+                                        final int startColor, final int endColor) {
+        putTexture(buffer,
+                left, right, top, bottom,
+                zLevel,
+                getUVCoord(left, 0.0D, usingExternalTexture, 32.0D),
+                getUVCoord(right, 1.0D, usingExternalTexture, 32.0D),
+                getUVCoord(top, 0.0D, usingExternalTexture, 32.0D),
+                getUVCoord(bottom, 1.0D, usingExternalTexture, 32.0D),
+                startColor, endColor
+        );
+    }
+
+    /**
+     * Whether the specified pair of resolved colors is present and complete
+     *
+     * @param colorData The resolved color pair to interpret
+     * @return {@link Boolean#TRUE} if both colors are present
+     */
+    private static boolean isValidColorPair(final Pair<Color, Color> colorData) {
+        return colorData != null && colorData.getFirst() != null && colorData.getSecond() != null;
+    }
+
     /**
      * Draws a textured rectangle from a region in a 256x256 texture
      *
@@ -804,6 +1624,7 @@ public class RenderUtils {
     public static void innerBlit(final double left, final double right, final double top, final double bottom,
                                  final double zLevel,
                                  final double minU, final double maxU, final double minV, final double maxV) {
+        markUnretainable();
         final Tessellator tessellator = Tessellator.getInstance();
         final BufferBuilder buffer = tessellator.getBuffer();
         buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX);
@@ -812,6 +1633,8 @@ public class RenderUtils {
         buffer.pos(right, top, zLevel).tex(maxU, minV).endVertex();
         buffer.pos(left, top, zLevel).tex(minU, minV).endVertex();
         tessellator.draw();
+        RenderStats.increment(RenderStats.Counter.DRAW_CALLS);
+        RenderStats.increment(RenderStats.Counter.QUADS);
     }
 
     /**
@@ -824,7 +1647,8 @@ public class RenderUtils {
      * @param bottom The bottom length of the Object
      */
     public static void enableScissor(@Nonnull final Minecraft mc, final int left, final int top, final int right, final int bottom) {
-        applyScissor(mc, scissorStack.push(new ScreenRectangle(left, top, right - left, bottom - top)));
+        scissorStack.push(left, top, right, bottom);
+        applyScissor(mc);
     }
 
     /**
@@ -833,51 +1657,70 @@ public class RenderUtils {
      * @param mc The Minecraft Instance
      */
     public static void disableScissor(@Nonnull final Minecraft mc) {
-        applyScissor(mc, scissorStack.pop());
+        scissorStack.popBounds();
+        applyScissor(mc);
     }
 
     /**
-     * Define viewable rendering boundaries, utilizing glScissor
+     * Determines if the specified area is at least partially within the current scissor area
      *
-     * @param mc        The Minecraft Instance
-     * @param rectangle The Screen Area to process
+     * @param left   The left-most coordinate of the area
+     * @param top    The top-most coordinate of the area
+     * @param right  The right-most coordinate of the area
+     * @param bottom The bottom-most coordinate of the area
+     * @return {@link Boolean#TRUE} if no scissor is active, or if the area overlaps the current scissor area
      */
-    private static void applyScissor(@Nonnull final Minecraft mc, final ScreenRectangle rectangle) {
-        if (rectangle != null) {
-            final int scale = computeGuiScale(mc);
-            final int displayHeight = mc.displayHeight;
-            final int renderWidth = Math.max(0, rectangle.width() * scale);
-            final int renderHeight = Math.max(0, rectangle.height() * scale);
-            GL11.glEnable(GL11.GL_SCISSOR_TEST);
-            GL11.glScissor(
-                    rectangle.getLeft() * scale,
-                    displayHeight - rectangle.getBottom() * scale,
-                    renderWidth, renderHeight
-            );
-        } else {
-            GL11.glDisable(GL11.GL_SCISSOR_TEST);
-        }
+    public static boolean isWithinScissor(final int left, final int top, final int right, final int bottom) {
+        return scissorStack.isEmpty() || (
+                left <= scissorStack.getRight() && right >= scissorStack.getLeft() &&
+                        top <= scissorStack.getBottom() && bottom >= scissorStack.getTop()
+        );
+    }
+
+    /**
+     * Apply the current top of the scissor stack, utilizing glScissor
+     * <p>
+     * GL calls are skipped when the scissor test state or the scissor box would remain unchanged
+     *
+     * @param mc The Minecraft Instance
+     */
+    private static void applyScissor(@Nonnull final Minecraft mc) {
+        scissorState.apply(scissorStack, scissorStack.isEmpty() ? 1 : computeGuiScale(mc), mc.displayHeight);
     }
 
     /**
      * Computes the current GUI scale. Calling this method is equivalent to the following:<pre><code>
      * Minecraft mc = Minecraft.getMinecraft();
      * int scale = new ScaledResolution(mc.gameSettings, mc.displayWidth, mc.displayHeight).getScaleFactor();</code></pre>
+     * <p>
+     * The result is cached until the display size or GUI scale setting changes
      *
      * @param mc The Minecraft Instance
      * @return the current GUI scale
      */
     public static int computeGuiScale(@Nonnull final Minecraft mc) {
+        final int displayWidth = mc.displayWidth;
+        final int displayHeight = mc.displayHeight;
+        final int guiScale = mc.gameSettings.guiScale;
+        if (displayWidth == guiScaleKey[0] && displayHeight == guiScaleKey[1] && guiScale == guiScaleKey[2]) {
+            return guiScaleKey[3];
+        }
+
         int scaleFactor = 1;
 
-        int k = mc.gameSettings.guiScale;
+        int k = guiScale;
         if (k == 0) {
             k = 1000;
         }
 
-        while (scaleFactor < k && mc.displayWidth / (scaleFactor + 1) >= 320 && mc.displayHeight / (scaleFactor + 1) >= 240) {
+        while (scaleFactor < k && displayWidth / (scaleFactor + 1) >= 320 && displayHeight / (scaleFactor + 1) >= 240) {
             ++scaleFactor;
         }
+
+        guiScaleKey[0] = displayWidth;
+        guiScaleKey[1] = displayHeight;
+        guiScaleKey[2] = guiScale;
+        guiScaleKey[3] = scaleFactor;
         return scaleFactor;
     }
 
@@ -964,23 +1807,53 @@ public class RenderUtils {
                                            final boolean isTooltip,
                                            final ScreenConstants.TooltipData colorInfo) {
         if (colorInfo.renderTooltips() && !textToInput.isEmpty() && fontRenderer != null) {
-            List<String> textLines = textToInput;
-            int tooltipTextWidth = 0;
-
-            for (String textLine : textLines) {
-                final int textLineWidth = getStringWidth(fontRenderer, textLine);
+            drawMultiLineString(mc,
+                    getTooltipLayout(fontRenderer, textToInput, -1),
+                    posX, posY,
+                    maxWidth, maxHeight,
+                    maxTextWidth,
+                    fontRenderer,
+                    isCentered, isTooltip,
+                    colorInfo
+            );
+        }
+    }
 
-                if (textLineWidth > tooltipTextWidth) {
-                    tooltipTextWidth = textLineWidth;
-                }
-            }
+    /**
+     * Renders a pre-measured Multi-Line String, constrained by position and dimension arguments
+     * <p>
+     * Callers that retain the layout between frames avoid the layout cache lookup entirely
+     *
+     * @param mc           The current game instance
+     * @param sourceLayout The unwrapped layout of the Multi-Line String, from {@link RenderUtils#getTooltipLayout(FontRenderer, List, int)}
+     * @param posX         The starting X position to render the String
+     * @param posY         The starting Y position to render the String
+     * @param maxWidth     The maximum width to allow rendering to (Text will wrap if output is greater)
+     * @param maxHeight    The maximum height to allow rendering to (Text will wrap if output is greater)
+     * @param maxTextWidth The maximum width the output can be before wrapping
+     * @param fontRenderer The Font Renderer Instance
+     * @param isCentered   Whether to render the text in a center-styled layout (Disabled if maxWidth is not specified)
+     * @param isTooltip    Whether to render this layout in a tooltip-style (Issues may occur if combined with isCentered)
+     * @param colorInfo    Color Data in the format of [renderTooltips,backgroundColorInfo,borderColorInfo]
+     */
+    public static void drawMultiLineString(@Nonnull final Minecraft mc,
+                                           final TooltipLayout sourceLayout,
+                                           final int posX, final int posY,
+                                           final int maxWidth, final int maxHeight,
+                                           final int maxTextWidth,
+                                           final FontRenderer fontRenderer,
+                                           final boolean isCentered,
+                                           final boolean isTooltip,
+                                           final ScreenConstants.TooltipData colorInfo) {
+        if (colorInfo.renderTooltips() && sourceLayout.size() > 0 && fontRenderer != null) {
+            TooltipLayout layout = sourceLayout;
+            int tooltipTextWidth = layout.textWidth();
 
             boolean needsWrap = false;
             boolean allowXAdjustments = maxWidth > 0;
             boolean allowYAdjustments = maxHeight > 0;
             boolean allowCenterAdjustments = isCentered && allowXAdjustments;
 
-            int titleLinesCount = 1;
             int tooltipX = posX;
 
             if (!isTooltip && allowCenterAdjustments) {
@@ -1008,24 +1881,8 @@ public class RenderUtils {
             }
 
             if (needsWrap) {
-                final List<String> wrappedTextLines = StringUtils.newArrayList();
-                int wrappedTooltipWidth = 0;
-                for (int i = 0; i < textLines.size(); i++) {
-                    final List<String> wrappedLine = listFormattedStringToWidth(fontRenderer, textLines.get(i), tooltipTextWidth);
-                    if (i == 0) {
-                        titleLinesCount = wrappedLine.size();
-                    }
-
-                    for (String line : wrappedLine) {
-                        int lineWidth = getStringWidth(fontRenderer, line);
-                        if (lineWidth > wrappedTooltipWidth) {
-                            wrappedTooltipWidth = lineWidth;
-                        }
-                        wrappedTextLines.add(line);
-                    }
-                }
-                tooltipTextWidth = wrappedTooltipWidth;
-                textLines = wrappedTextLines;
+                layout = getTooltipLayout(fontRenderer, sourceLayout.source(), Math.max(tooltipTextWidth, 0));
+                tooltipTextWidth = layout.textWidth();
 
                 if (allowXAdjustments) {
                     if (posX > maxWidth / 2) {
@@ -1036,13 +1893,15 @@ public class RenderUtils {
                 }
             }
 
+            final int lineCount = layout.size();
+            final int titleLinesCount = layout.titleLinesCount();
             int tooltipY = posY - (isTooltip && allowYAdjustments ? 12 : 0);
             int tooltipHeight = 8;
             int fontHeight = getFontHeight(fontRenderer);
 
-            if (textLines.size() > 1) {
-                tooltipHeight += (textLines.size() - 1) * (fontHeight + 1);
-                if (isTooltip && textLines.size() > titleLinesCount) {
+            if (lineCount > 1) {
+                tooltipHeight += (lineCount - 1) * (fontHeight + 1);
+                if (isTooltip && lineCount > titleLinesCount) {
                     tooltipHeight += 2; // gap between title lines and next lines
                 }
             }
@@ -1061,8 +1920,8 @@ public class RenderUtils {
 
             // Render Background
             if (backgroundColorInfo != null) {
-                final Color backgroundStart = backgroundColorInfo.startColor();
-                final Color backgroundEnd = backgroundColorInfo.endColor();
+                final int backgroundStart = backgroundColorInfo.startArgb();
+                final int backgroundEnd = backgroundColorInfo.endArgb();
 
                 if (StringUtils.isNullOrEmpty(backgroundColorInfo.texLocation())) {
                     // Draw with Colors
@@ -1098,8 +1957,8 @@ public class RenderUtils {
 
             // Render Border
             if (borderColorInfo != null) {
-                final Color borderStart = borderColorInfo.startColor();
-                final Color borderEnd = borderColorInfo.endColor();
+                final int borderStart = borderColorInfo.startArgb();
+                final int borderEnd = borderColorInfo.endArgb();
 
                 if (StringUtils.isNullOrEmpty(borderColorInfo.texLocation())) {
                     // Draw with Colors
@@ -1108,65 +1967,94 @@ public class RenderUtils {
                             tooltipTextWidth + 6, tooltipHeight + 6,
                             zLevel, borderStart, borderEnd,
                             1,
-                            null, null
+                            0, 0
                     );
                 } else {
                     final Tuple<Boolean, String, ResourceLocation> textureData = getTextureData(mc, borderColorInfo.texLocation());
                     final boolean usingExternalTexture = textureData.getFirst();
                     final ResourceLocation borderTexture = textureData.getThird();
 
-                    final double border = 1;
                     final double renderX = tooltipX - 3;
                     final double renderY = tooltipY - 3;
-                    final double canvasRight = tooltipX + tooltipTextWidth + 2;
-                    final double canvasBottom = tooltipY + tooltipHeight + 2;
+                    final double renderRight = tooltipX + tooltipTextWidth + 3;
+                    final double renderBottom = tooltipY + tooltipHeight + 3;
 
-                    // Draw Borders
-                    // Top Left
-                    drawTexture(mc,
-                            renderX, renderX + border, renderY, canvasBottom + border,
-                            zLevel, usingExternalTexture,
-                            borderStart, borderEnd,
-                            borderTexture
-                    );
-                    // Top Right
-                    drawTexture(mc,
-                            canvasRight, canvasRight + border, renderY, canvasBottom + border,
-                            zLevel, usingExternalTexture,
-                            borderStart, borderEnd,
-                            borderTexture
-                    );
-                    // Bottom Left
-                    drawTexture(mc,
-                            renderX, canvasRight + border, canvasBottom, canvasBottom + border,
-                            zLevel, usingExternalTexture,
-                            borderStart, borderEnd,
-                            borderTexture
-                    );
-                    // Right Border
-                    drawTexture(mc,
-                            renderX, canvasRight + border, renderY, renderY + border,
-                            zLevel, usingExternalTexture,
+                    drawTextureFrame(mc,
+                            renderX, renderRight, renderY, renderBottom,
+                            zLevel, 1,
+                            usingExternalTexture,
                             borderStart, borderEnd,
                             borderTexture
                     );
                 }
             }
 
-            for (int lineNumber = 0; lineNumber < textLines.size(); ++lineNumber) {
-                final String line = textLines.get(lineNumber);
-                final int lineWidth = getStringWidth(fontRenderer, line);
-                final int renderX = isCentered ? (tooltipX + (tooltipTextWidth - lineWidth) / 2) : tooltipX;
+            // Tooltips are overlays, so their text must not be deferred behind later geometry
+            layout.drawLines(fontRenderer,
+                    tooltipX, tooltipY,
+                    tooltipTextWidth, fontHeight + 1,
+                    isCentered, isTooltip ? 2 : 0,
+                    isTooltip ? RenderUtils::drawLayoutLine : RenderUtils::renderLayoutLine
+            );
+        }
+    }
 
-                renderString(fontRenderer, line, renderX, tooltipY, -1);
+    /**
+     * Draws a positioned line of a {@link TooltipLayout} immediately
+     *
+     * @param fontRenderer The Font Renderer Instance
+     * @param line         The line to draw
+     * @param posX         The X position of the line
+     * @param posY         The Y position of the line
+     */
+    private static void drawLayoutLine(final FontRenderer fontRenderer, final String line, final int posX, final int posY) {
+        drawString(fontRenderer, line, posX, posY, -1);
+    }
 
-                if (isTooltip && lineNumber + 1 == titleLinesCount) {
-                    tooltipY += 2;
-                }
+    /**
+     * Queues a positioned line of a {@link TooltipLayout} for the current text batch
+     *
+     * @param fontRenderer The Font Renderer Instance
+     * @param line         The line to draw
+     * @param posX         The X position of the line
+     * @param posY         The Y position of the line
+     */
+    private static void renderLayoutLine(final FontRenderer fontRenderer, final String line, final int posX, final int posY) {
+        renderString(fontRenderer, line, posX, posY, -1);
+    }
 
-                tooltipY += fontHeight + 1;
+    /**
+     * Retrieve the measured and wrapped layout for the specified lines, reusing a cached layout if possible
+     *
+     * @param fontRenderer The Font Renderer Instance
+     * @param textToInput  The Specified Multi-Line String, split by lines into a list
+     * @param wrapWidth    The width to wrap each line to, or -1 to keep the lines as-is
+     * @return the resulting {@link TooltipLayout}
+     */
+    public static TooltipLayout getTooltipLayout(final FontRenderer fontRenderer, final List<String> textToInput, final int wrapWidth) {
+        for (int i = 0; i < TOOLTIP_LAYOUTS.length; i++) {
+            final TooltipLayout layout = TOOLTIP_LAYOUTS[i];
+            if (layout != null && TOOLTIP_LAYOUT_FONTS[i] == fontRenderer && layout.matches(textToInput, wrapWidth)) {
+                return layout;
             }
         }
+
+        final TooltipLayout result = TooltipLayout.create(
+                getGlyphWidths(fontRenderer), textToInput, wrapWidth, RenderUtils::getStyledText
+        );
+        TOOLTIP_LAYOUTS[nextTooltipLayout] = result;
+        TOOLTIP_LAYOUT_FONTS[nextTooltipLayout] = fontRenderer;
+        nextTooltipLayout = (nextTooltipLayout + 1) % TOOLTIP_LAYOUTS.length;
+        return result;
+    }
+
+    /**
+     * Clears all cached {@link TooltipLayout} data, such as after font metrics have changed
+     */
+    public static void clearTooltipLayouts() {
+        Arrays.fill(TOOLTIP_LAYOUTS, null);
+        Arrays.fill(TOOLTIP_LAYOUT_FONTS, null);
+        nextTooltipLayout = 0;
     }
 
     /**
@@ -1205,9 +2093,136 @@ public class RenderUtils {
      * @param color        The color to render the text in
      */
     public static void renderString(final FontRenderer fontRenderer, final String text, final float xPos, final float yPos, final int color) {
+        drawString(fontRenderer, text, xPos, yPos, color);
+    }
+
+    /**
+     * Queues a String to be rendered in the Screen, in the style of normal text
+     * <p>
+     * While a text batch is active, the text is deferred until the outermost batch ends, see {@link RenderUtils#beginTextBatch()}.
+     * Otherwise, the text is rendered immediately, as with {@link RenderUtils#renderString(FontRenderer, String, float, float, int)}.
+     *
+     * @param fontRenderer The Font Renderer Instance
+     * @param text         The text to render to the screen
+     * @param xPos         The X position to render the text at
+     * @param yPos         The Y position to render the text at
+     * @param color        The color to render the text in
+     */
+    public static void queueString(final FontRenderer fontRenderer, final String text, final float xPos, final float yPos, final int color) {
+        markUnretainable();
+        if (textBatchDepth <= 0) {
+            drawString(fontRenderer, text, xPos, yPos, color);
+        } else if (!StringUtils.isNullOrEmpty(text)) {
+            final boolean hasScissor = !scissorStack.isEmpty();
+            if (hasScissor && (scissorStack.getLeft() >= scissorStack.getRight() || scissorStack.getTop() >= scissorStack.getBottom())) {
+                return;
+            }
+            textQueue.add(
+                    fontRenderer, text, xPos, yPos, color, hasScissor,
+                    scissorStack.getLeft(), scissorStack.getTop(),
+                    scissorStack.getRight(), scissorStack.getBottom()
+            );
+        }
+    }
+
+    /**
+     * Queues a String to be rendered in the Screen, in the style of centered text
+     *
+     * @param fontRenderer The Font Renderer Instance
+     * @param text         The text to render to the screen
+     * @param xPos         The X position to render the text at
+     * @param yPos         The Y position to render the text at
+     * @param color        The color to render the text in
+     * @see RenderUtils#queueString(FontRenderer, String, float, float, int)
+     */
+    public static void queueCenteredString(final FontRenderer fontRenderer, final String text, final int xPos, final int yPos, final int color) {
+        queueString(fontRenderer, text, xPos - (getStringWidth(fontRenderer, text) / 2), yPos, color);
+    }
+
+    /**
+     * Renders a String in the Screen immediately, regardless of text batching
+     *
+     * @param fontRenderer The Font Renderer Instance
+     * @param text         The text to render to the screen
+     * @param xPos         The X position to render the text at
+     * @param yPos         The Y position to render the text at
+     * @param color        The color to render the text in
+     */
+    private static void drawString(final FontRenderer fontRenderer, final String text, final float xPos, final float yPos, final int color) {
+        markUnretainable();
+        RenderStats.increment(RenderStats.Counter.TEXT_DRAWS);
         fontRenderer.drawStringWithShadow(text, xPos, yPos, color);
     }
 
+    /**
+     * Begin deferring text draws made through {@link RenderUtils#queueString(FontRenderer, String, float, float, int)}
+     * <p>
+     * Deferred text is emitted in a single pass once the outermost batch ends, after any other geometry
+     * drawn in the meantime, and is clipped to the scissor area that was active when it was queued.
+     * Transformations applied to the model view are not captured, so text drawn under a transformation
+     * must use {@link RenderUtils#renderString(FontRenderer, String, float, float, int)}, which is never deferred.
+     */
+    public static void beginTextBatch() {
+        textBatchDepth++;
+    }
+
+    /**
+     * End the current text batch, emitting all deferred text once the outermost batch ends
+     *
+     * @param mc The Minecraft Instance
+     */
+    public static void endTextBatch(@Nonnull final Minecraft mc) {
+        if (textBatchDepth > 0 && --textBatchDepth == 0) {
+            flushTextBatch(mc);
+        }
+    }
+
+    /**
+     * Whether text draws are currently being deferred
+     *
+     * @return {@link Boolean#TRUE} if text batching is active
+     */
+    public static boolean isBatchingText() {
+        return textBatchDepth > 0;
+    }
+
+    /**
+     * Emit all deferred text draws, applying the scissor area of each run of entries
+     *
+     * @param mc The Minecraft Instance
+     */
+    private static void flushTextBatch(@Nonnull final Minecraft mc) {
+        if (textQueue.isEmpty()) {
+            return;
+        }
+
+        GlStateManager.enableTexture2D();
+        GlStateManager.enableBlend();
+        GlStateManager.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+
+        final int size = textQueue.size();
+        boolean hasScissor = false;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || !textQueue.hasSameScissor(i - 1, i)) {
+                if (hasScissor) {
+                    disableScissor(mc);
+                }
+                hasScissor = textQueue.hasScissor(i);
+                if (hasScissor) {
+                    enableScissor(mc,
+                            textQueue.getScissor(i, 0), textQueue.getScissor(i, 1),
+                            textQueue.getScissor(i, 2), textQueue.getScissor(i, 3)
+                    );
+                }
+            }
+            drawString(textQueue.getFont(i), textQueue.getText(i), textQueue.getX(i), textQueue.getY(i), textQueue.getColor(i));
+        }
+        if (hasScissor) {
+            disableScissor(mc);
+        }
+        textQueue.clear();
+    }
+
     /**
      * Renders a String in the Screen, in the style of normal text
      *
@@ -1229,18 +2244,86 @@ public class RenderUtils {
      * @return the string's width from the font renderer
      */
     public static int getStringWidth(final FontRenderer fontRenderer, final String string) {
-        return fontRenderer.getStringWidth(string);
+        RenderStats.increment(RenderStats.Counter.STRING_MEASUREMENTS);
+        return getGlyphWidths(fontRenderer).getStringWidth(getStyledText(string));
+    }
+
+    /**
+     * Retrieve the styled runs of the specified formatted string, reusing a cached result if possible
+     *
+     * @param text The formatted string to interpret
+     * @return the resulting {@link StyledText}
+     */
+    public static StyledText getStyledText(final String text) {
+        if (StringUtils.isNullOrEmpty(text)) {
+            return StyledText.EMPTY;
+        }
+
+        StyledText result = STYLED_TEXT_CACHE.get(text);
+        if (result == null) {
+            if (STYLED_TEXT_CACHE.size() >= STYLED_TEXT_CACHE_SIZE) {
+                STYLED_TEXT_CACHE.clear();
+            }
+            result = StyledText.parse(text);
+            STYLED_TEXT_CACHE.put(text, result);
+        }
+        return result;
+    }
+
+    /**
+     * Remove all formatting codes from the specified string, using its cached styled runs
+     * <p>
+     * This is intended for strings that are also rendered, as each string is added to the styled text cache
+     *
+     * @param text The formatted string to interpret
+     * @return the visible characters of the string
+     */
+    public static String stripFormatting(final String text) {
+        return getStyledText(text).plainText();
     }
 
     /**
-     * Get the Width of a Character from the FontRenderer
+     * Retrieve the glyph width snapshot for the specified FontRenderer, capturing a new one if needed
+     * <p>
+     * Capturing reads the font renderer's state, and so only occurs on the main thread;
+     * other threads receive the last table published for the font renderer, and only
+     * wait on the main thread for a capture when no table has been published yet
      *
      * @param fontRenderer The Font Renderer Instance
-     * @param string       The character to interpret
-     * @return the character's width from the font renderer
+     * @return the {@link GlyphWidthTable} for the font renderer's current state
+     */
+    public static GlyphWidthTable getGlyphWidths(final FontRenderer fontRenderer) {
+        final Minecraft client = ModUtils.getMinecraft();
+        if (!client.isCallingFromMinecraftThread()) {
+            final GlyphWidthTable published = GLYPH_WIDTHS.get(fontRenderer);
+            if (published != null) {
+                return published;
+            }
+            final CompletableFuture<GlyphWidthTable> capture = new CompletableFuture<>();
+            ModUtils.executeOnMainThread(client, () -> capture.complete(getGlyphWidths(fontRenderer)));
+            return capture.join();
+        }
+
+        final boolean isUnicode = fontRenderer.getUnicodeFlag();
+        GlyphWidthTable table = GLYPH_WIDTHS.get(fontRenderer);
+        if (table == null || table.isUnicode() != isUnicode || table.getFontHeight() != fontRenderer.FONT_HEIGHT) {
+            table = new GlyphWidthTable(
+                    character -> fontRenderer.getCharWidth((char) character),
+                    fontRenderer.FONT_HEIGHT, isUnicode
+            );
+            GLYPH_WIDTHS.put(fontRenderer, table);
+        }
+        return table;
+    }
+
+    /**
+     * Clear any cached font data, such as glyph widths and measured tooltip layouts
+     * <p>
+     * Called whenever game resources are reloaded, as font textures and sizes may have changed
      */
-    private static int getCharWidth(final FontRenderer fontRenderer, final char string) {
-        return fontRenderer.getCharWidth(string);
+    public static void clearFontCaches() {
+        GLYPH_WIDTHS.clear();
+        clearTooltipLayouts();
     }
 
     /**
@@ -1311,6 +2394,76 @@ public class RenderUtils {
                                              final int minX, final int minY,
                                              final int maxX, final int maxY,
                                              final int color) {
+        drawScrollingString(mc, fontRenderer, message, centerX, minX, minY, maxX, maxY, color, false);
+    }
+
+    /**
+     * Queues a String to be rendered in the Screen, in the style of scrolling text
+     *
+     * @param mc           The current game instance
+     * @param fontRenderer The Font Renderer Instance
+     * @param message      The text to render to the screen
+     * @param centerX      The center X position, used when not scrolling
+     * @param minX         The minimum X position to render the text at
+     * @param minY         The minimum Y position to render the text at
+     * @param maxX         The maximum X position to render the text at
+     * @param maxY         The maximum Y position to render the text at
+     * @param color        The color to render the text in
+     * @see RenderUtils#queueString(FontRenderer, String, float, float, int)
+     */
+    public static void queueScrollingString(@Nonnull final Minecraft mc,
+                                            final FontRenderer fontRenderer,
+                                            final String message,
+                                            final int centerX,
+                                            final int minX, final int minY,
+                                            final int maxX, final int maxY,
+                                            final int color) {
+        drawScrollingString(mc, fontRenderer, message, centerX, minX, minY, maxX, maxY, color, true);
+    }
+
+    /**
+     * Queues a String to be rendered in the Screen, in the style of scrolling text
+     *
+     * @param mc           The current game instance
+     * @param fontRenderer The Font Renderer Instance
+     * @param message      The text to render to the screen
+     * @param minX         The minimum X position to render the text at
+     * @param minY         The minimum Y position to render the text at
+     * @param maxX         The maximum X position to render the text at
+     * @param maxY         The maximum Y position to render the text at
+     * @param color        The color to render the text in
+     * @see RenderUtils#queueString(FontRenderer, String, float, float, int)
+     */
+    public static void queueScrollingString(@Nonnull final Minecraft mc,
+                                            final FontRenderer fontRenderer,
+                                            final String message,
+                                            final int minX, final int minY,
+                                            final int maxX, final int maxY,
+                                            final int color) {
+        queueScrollingString(mc, fontRenderer, message, maxX - ((maxX - minX) / 2), minX, minY, maxX, maxY, color);
+    }
+
+    /**
+     * Renders or queues a String in the Screen, in the style of scrolling text
+     *
+     * @param mc           The current game instance
+     * @param fontRenderer The Font Renderer Instance
+     * @param message      The text to render to the screen
+     * @param centerX      The center X position, used when not scrolling
+     * @param minX         The minimum X position to render the text at
+     * @param minY         The minimum Y position to render the text at
+     * @param maxX         The maximum X position to render the text at
+     * @param maxY         The maximum Y position to render the text at
+     * @param color        The color to render the text in
+     * @param queued       Whether the text should be queued, rather than rendered immediately
+     */
+    private static void drawScrollingString(@Nonnull final Minecraft mc,
+                                            final FontRenderer fontRenderer,
+                                            final String message,
+                                            final int centerX,
+                                            final int minX, final int minY,
+                                            final int maxX, final int maxY,
+                                            final int color, final boolean queued) {
         final int lineWidth = getStringWidth(fontRenderer, message);
         final int renderY = (minY + maxY - getFontHeight(fontRenderer)) / 2 + 1;
         final int elementWidth = maxX - minX;
@@ -1321,11 +2474,19 @@ public class RenderUtils {
             final double percentage = Math.sin((Math.PI / 2D) * Math.cos((Math.PI * 2D) * renderTime / renderDistance)) / 2D + 0.5D;
             final double offset = MathUtils.lerp(percentage, 0.0D, renderWidth);
             enableScissor(mc, minX, minY, maxX, maxY);
-            renderString(fontRenderer, message, minX - (int) offset, renderY, color);
+            if (queued) {
+                queueString(fontRenderer, message, minX - (int) offset, renderY, color);
+            } else {
+                renderString(fontRenderer, message, minX - (int) offset, renderY, color);
+            }
             disableScissor(mc);
         } else {
             final int renderX = MathUtils.clamp(centerX, minX + lineWidth / 2, maxX - lineWidth / 2);
-            renderCenteredString(fontRenderer, message, renderX, renderY, color);
+            if (queued) {
+                queueCenteredString(fontRenderer, message, renderX, renderY, color);
+            } else {
+                renderCenteredString(fontRenderer, message, renderX, renderY, color);
+            }
         }
     }
 
@@ -1404,81 +2565,7 @@ public class RenderUtils {
      * @return The converted and wrapped version of the original input
      */
     public static List<String> listFormattedStringToWidth(final FontRenderer fontRenderer, final String stringInput, final int wrapWidth) {
-        return StringUtils.splitTextByNewLine(wrapFormattedStringToWidth(fontRenderer, stringInput, wrapWidth), true);
-    }
-
-    /**
-     * Wraps a String based on the specified target width per line<p>
-     * Separated by newline characters, as needed
-     *
-     * @param fontRenderer The Font Renderer Instance
-     * @param stringInput  The original String to wrap
-     * @param wrapWidth    The target width per line, to wrap the input around
-     * @return The converted and wrapped version of the original input
-     */
-    private static String wrapFormattedStringToWidth(final FontRenderer fontRenderer, final String stringInput, final int wrapWidth) {
-        final int stringSizeToWidth = sizeStringToWidth(fontRenderer, stringInput, wrapWidth);
-
-        if (stringInput.length() <= stringSizeToWidth) {
-            return stringInput;
-        } else {
-            final String subString = stringInput.substring(0, stringSizeToWidth);
-            final char currentCharacter = stringInput.charAt(stringSizeToWidth);
-            final boolean flag = Character.isSpaceChar(currentCharacter) || currentCharacter == '\n';
-            final String s1 = StringUtils.getFormatFromString(subString) + stringInput.substring(stringSizeToWidth + (flag ? 1 : 0));
-            return subString + '\n' + wrapFormattedStringToWidth(fontRenderer, s1, wrapWidth);
-        }
-    }
-
-    /**
-     * Returns the Wrapped Width of a String, defined by the target wrapWidth
-     *
-     * @param fontRenderer The Font Renderer Instance
-     * @param stringEntry  The original String to evaluate
-     * @param wrapWidth    The target width to wrap within
-     * @return The expected wrapped width the String should be
-     */
-    private static int sizeStringToWidth(final FontRenderer fontRenderer, final String stringEntry, final int wrapWidth) {
-        final int stringLength = stringEntry.length();
-        int charWidth = 0;
-        int currentLine = 0;
-        int currentIndex = -1;
-
-        for (boolean flag = false; currentLine < stringLength; ++currentLine) {
-            final char currentCharacter = stringEntry.charAt(currentLine);
-            switch (currentCharacter) {
-                case '\n':
-                    --currentLine;
-                    break;
-                case ' ':
-                    currentIndex = currentLine;
-                default:
-                    charWidth += getCharWidth(fontRenderer, currentCharacter);
-                    if (flag) {
-                        ++charWidth;
-                    }
-                    break;
-                case StringUtils.COLOR_CHAR:
-                    if (currentLine < stringLength - 1) {
-                        final char code = stringEntry.charAt(++currentLine);
-                        if (code == 'l' || code == 'L') {
-                            flag = true;
-                        } else if (code == 'r' || code == 'R' || StringUtils.isFormatColor(code)) {
-                            flag = false;
-                        }
-                    }
-            }
-
-            if (currentCharacter == '\n') {
-                currentIndex = ++currentLine;
-                break;
-            }
-
-            if (charWidth > wrapWidth) {
-                break;
-            }
-        }
-
-        return currentLine != stringLength && currentIndex != -1 && currentIndex < currentLine ? currentIndex : currentLine;
+        RenderStats.increment(RenderStats.Counter.STRING_MEASUREMENTS);
+        return getGlyphWidths(fontRenderer).listFormattedStringToWidth(getStyledText(stringInput), wrapWidth);
     }
 }
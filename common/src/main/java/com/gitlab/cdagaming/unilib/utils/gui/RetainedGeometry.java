@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.util.ResourceLocation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents geometry recorded once through {@link RenderUtils} and replayed until invalidated.
+ * <p>
+ * Each recorded batch is compiled into its own display list, alongside the texture it was drawn with,
+ * so that replaying only restores the render state and calls the stored lists. Geometry is retained
+ * against a source object and a set of state values, and is re-recorded whenever either changes.
+ * Recording is abandoned if content that cannot be retained, such as text or items, is drawn.
+ *
+ * @author CDAGaming
+ */
+public class RetainedGeometry {
+    /**
+     * The display list ids of each recorded batch
+     */
+    private final List<Integer> displayLists = StringUtils.newArrayList();
+    /**
+     * The texture bound for each recorded batch, or null for color-only batches
+     */
+    private final List<ResourceLocation> textures = StringUtils.newArrayList();
+    /**
+     * The source object the geometry was recorded for
+     */
+    private Object source;
+    /**
+     * The state values the geometry was recorded with
+     */
+    private double[] state;
+    /**
+     * Whether the recorded geometry can be replayed
+     */
+    private boolean valid = false;
+    /**
+     * Whether the content for the current source and state can be retained
+     */
+    private boolean retainable = true;
+    /**
+     * The function used to delete a display list, once no longer needed
+     */
+    private final IntConsumer listDeleter;
+
+    /**
+     * Initializes a new, empty retained geometry instance
+     */
+    public RetainedGeometry() {
+        this(GLAllocation::deleteDisplayLists);
+    }
+
+    /**
+     * Initializes a new, empty retained geometry instance
+     *
+     * @param listDeleter The function used to delete a display list, once no longer needed
+     */
+    RetainedGeometry(final IntConsumer listDeleter) {
+        this.listDeleter = listDeleter;
+    }
+
+    /**
+     * Ensure the recorded geometry still represents the specified source and state, invalidating it otherwise
+     *
+     * @param source The source object the geometry is drawn from
+     * @param state  The state values that affect the drawn geometry, such as position and scroll
+     */
+    public void validate(final Object source, final double... state) {
+        if (!Objects.equals(this.source, source) || !Arrays.equals(this.state, state)) {
+            invalidate();
+            this.source = source;
+            this.state = state;
+        }
+    }
+
+    /**
+     * Whether the recorded geometry can be replayed
+     *
+     * @return {@link Boolean#TRUE} if valid geometry has been recorded
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Whether the content for the current source and state can be retained
+     *
+     * @return {@link Boolean#TRUE} if recording should be attempted
+     */
+    public boolean isRetainable() {
+        return retainable;
+    }
+
+    /**
+     * Discard the recorded geometry, causing it to be recorded again upon the next draw
+     */
+    public void invalidate() {
+        deleteLists();
+        valid = false;
+        retainable = true;
+        source = null;
+        state = null;
+    }
+
+    /**
+     * Retrieve the amount of recorded batches
+     *
+     * @return the amount of recorded batches
+     */
+    public int size() {
+        return displayLists.size();
+    }
+
+    /**
+     * Retrieve the display list id of the specified batch
+     *
+     * @param index The index of the batch
+     * @return the display list id
+     */
+    public int getDisplayList(final int index) {
+        return displayLists.get(index);
+    }
+
+    /**
+     * Retrieve the texture bound for the specified batch
+     *
+     * @param index The index of the batch
+     * @return the bound texture, or null for color-only batches
+     */
+    public ResourceLocation getTexture(final int index) {
+        return textures.get(index);
+    }
+
+    /**
+     * Record a compiled batch
+     *
+     * @param displayList The display list id holding the batch
+     * @param texture     The texture bound for the batch, or null for color-only batches
+     */
+    void addBatch(final int displayList, final ResourceLocation texture) {
+        displayLists.add(displayList);
+        textures.add(texture);
+    }
+
+    /**
+     * Mark the current recording as complete, allowing it to be replayed
+     */
+    void finishRecording() {
+        valid = retainable;
+        if (!valid) {
+            deleteLists();
+        }
+    }
+
+    /**
+     * Abandon the current recording, as content that cannot be retained was drawn
+     */
+    void markUnretainable() {
+        retainable = false;
+    }
+
+    /**
+     * Delete any display lists held by this geometry
+     */
+    private void deleteLists() {
+        for (int displayList : displayLists) {
+            listDeleter.accept(displayList);
+        }
+        displayLists.clear();
+        textures.clear();
+    }
+}
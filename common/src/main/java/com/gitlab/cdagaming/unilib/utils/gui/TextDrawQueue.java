@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui;
+
+import net.minecraft.client.gui.FontRenderer;
+
+import java.util.Arrays;
+
+/**
+ * Represents a queue of deferred text draws, to be emitted together after other screen geometry.
+ * <p>
+ * Entries are stored within reusable parallel arrays, alongside the scissor area that was active
+ * when each entry was queued, so that queueing does not allocate once the queue has grown.
+ *
+ * @author CDAGaming
+ */
+public class TextDrawQueue {
+    /**
+     * The amount of int slots used by the scissor area of a single entry (left, top, right, bottom)
+     */
+    private static final int SCISSOR_SIZE = 4;
+    /**
+     * The initial amount of entries the queue can hold before growing
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+    /**
+     * The Font Renderer Instance for each entry
+     */
+    private FontRenderer[] fonts = new FontRenderer[DEFAULT_CAPACITY];
+    /**
+     * The text to render for each entry
+     */
+    private String[] texts = new String[DEFAULT_CAPACITY];
+    /**
+     * The position of each entry, in the format of [x,y]
+     */
+    private float[] positions = new float[DEFAULT_CAPACITY * 2];
+    /**
+     * The color of each entry
+     */
+    private int[] colors = new int[DEFAULT_CAPACITY];
+    /**
+     * Whether a scissor area was active for each entry
+     */
+    private boolean[] scissored = new boolean[DEFAULT_CAPACITY];
+    /**
+     * The scissor area of each entry, in the format of [left,top,right,bottom]
+     */
+    private int[] scissors = new int[DEFAULT_CAPACITY * SCISSOR_SIZE];
+    /**
+     * The current amount of entries within the queue
+     */
+    private int size = 0;
+
+    /**
+     * Queue a new text draw
+     *
+     * @param fontRenderer The Font Renderer Instance
+     * @param text         The text to render to the screen
+     * @param xPos         The X position to render the text at
+     * @param yPos         The Y position to render the text at
+     * @param color        The color to render the text in
+     * @param hasScissor   Whether a scissor area is active for this entry
+     * @param left         The left-most coordinate of the scissor area
+     * @param top          The top-most coordinate of the scissor area
+     * @param right        The right-most coordinate of the scissor area
+     * @param bottom       The bottom-most coordinate of the scissor area
+     */
+    public void add(final FontRenderer fontRenderer, final String text, final float xPos, final float yPos, final int color,
+                    final boolean hasScissor, final int left, final int top, final int right, final int bottom) {
+        if (size == fonts.length) {
+            final int capacity = size * 2;
+            fonts = Arrays.copyOf(fonts, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+            positions = Arrays.copyOf(positions, capacity * 2);
+            colors = Arrays.copyOf(colors, capacity);
+            scissored = Arrays.copyOf(scissored, capacity);
+            scissors = Arrays.copyOf(scissors, capacity * SCISSOR_SIZE);
+        }
+        fonts[size] = fontRenderer;
+        texts[size] = text;
+        positions[size * 2] = xPos;
+        positions[size * 2 + 1] = yPos;
+        colors[size] = color;
+        scissored[size] = hasScissor;
+        final int offset = size * SCISSOR_SIZE;
+        scissors[offset] = left;
+        scissors[offset + 1] = top;
+        scissors[offset + 2] = right;
+        scissors[offset + 3] = bottom;
+        size++;
+    }
+
+    /**
+     * Retrieve the current amount of entries within the queue
+     *
+     * @return the amount of queued entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether the queue currently holds no entries
+     *
+     * @return {@link Boolean#TRUE} if no entries are queued
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all entries from the queue, releasing any held references
+     */
+    public void clear() {
+        Arrays.fill(fonts, 0, size, null);
+        Arrays.fill(texts, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Retrieve the Font Renderer Instance of the specified entry
+     *
+     * @param index The index of the entry
+     * @return the Font Renderer Instance
+     */
+    public FontRenderer getFont(final int index) {
+        return fonts[index];
+    }
+
+    /**
+     * Retrieve the text of the specified entry
+     *
+     * @param index The index of the entry
+     * @return the text to render
+     */
+    public String getText(final int index) {
+        return texts[index];
+    }
+
+    /**
+     * Retrieve the X position of the specified entry
+     *
+     * @param index The index of the entry
+     * @return the X position to render at
+     */
+    public float getX(final int index) {
+        return positions[index * 2];
+    }
+
+    /**
+     * Retrieve the Y position of the specified entry
+     *
+     * @param index The index of the entry
+     * @return the Y position to render at
+     */
+    public float getY(final int index) {
+        return positions[index * 2 + 1];
+    }
+
+    /**
+     * Retrieve the color of the specified entry
+     *
+     * @param index The index of the entry
+     * @return the color to render in
+     */
+    public int getColor(final int index) {
+        return colors[index];
+    }
+
+    /**
+     * Whether a scissor area was active for the specified entry
+     *
+     * @param index The index of the entry
+     * @return {@link Boolean#TRUE} if a scissor area should be applied
+     */
+    public boolean hasScissor(final int index) {
+        return scissored[index];
+    }
+
+    /**
+     * Retrieve a coordinate of the scissor area for the specified entry
+     *
+     * @param index The index of the entry
+     * @param slot  The coordinate slot, in the format of [left,top,right,bottom]
+     * @return the scissor coordinate
+     */
+    public int getScissor(final int index, final int slot) {
+        return scissors[index * SCISSOR_SIZE + slot];
+    }
+
+    /**
+     * Whether the specified entries share the same scissor area
+     *
+     * @param first  The index of the first entry
+     * @param second The index of the second entry
+     * @return {@link Boolean#TRUE} if both entries use the same scissor area
+     */
+    public boolean hasSameScissor(final int first, final int second) {
+        if (scissored[first] != scissored[second]) {
+            return false;
+        } else if (!scissored[first]) {
+            return true;
+        }
+        final int firstOffset = first * SCISSOR_SIZE;
+        final int secondOffset = second * SCISSOR_SIZE;
+        return scissors[firstOffset] == scissors[secondOffset] &&
+                scissors[firstOffset + 1] == scissors[secondOffset + 1] &&
+                scissors[firstOffset + 2] == scissors[secondOffset + 2] &&
+                scissors[firstOffset + 3] == scissors[secondOffset + 3];
+    }
+}
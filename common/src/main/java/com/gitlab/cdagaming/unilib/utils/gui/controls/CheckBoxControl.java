@@ -48,6 +48,18 @@ public class CheckBoxControl extends ExtendedButtonControl {
      * The default maximum text width for this control
      */
     private static final int DEFAULT_MAX_TEXT_WIDTH = 167;
+    /**
+     * The packed ARGB border color for this control, while idle
+     */
+    private static final int BORDER_COLOR = 0xFF000000;
+    /**
+     * The packed ARGB border color for this control, while hovered
+     */
+    private static final int HOVER_BORDER_COLOR = 0xFFFFFFFF;
+    /**
+     * The packed ARGB content color for this control
+     */
+    private static final int CONTENT_COLOR = 0xFF2B2B2B;
 
     /**
      * The width of the inner box of this control
@@ -159,13 +171,13 @@ public class CheckBoxControl extends ExtendedButtonControl {
     @Override
     public void drawButton(@Nonnull Minecraft mc, int mouseX, int mouseY, float partial) {
         if (isControlVisible()) {
-            setHoveringOver(isOverScreen() && RenderUtils.isMouseOver(mouseX, mouseY, this));
+            setHoveringOver(isOverScreen() && isUnderMouse());
 
-            mouseDragged(mc, mouseX, mouseY);
+            renderChrome(mc, mouseX, mouseY);
             final int color = !isControlEnabled() ? 10526880 : 14737632;
 
             if (isChecked())
-                RenderUtils.renderCenteredString(
+                RenderUtils.queueCenteredString(
                         mc.fontRenderer,
                         "x",
                         getControlPosX() + (getBoxWidth() / 2) + 1,
@@ -174,7 +186,7 @@ public class CheckBoxControl extends ExtendedButtonControl {
                 );
 
             final int left = getControlPosX() + getBoxWidth() + 2;
-            RenderUtils.renderScrollingString(mc,
+            RenderUtils.queueScrollingString(mc,
                     mc.fontRenderer, getControlMessage(),
                     left + (RenderUtils.getStringWidth(mc.fontRenderer, getControlMessage()) / 2),
                     left, getTop(), getRight() - 2, getBottom(),
@@ -183,6 +195,15 @@ public class CheckBoxControl extends ExtendedButtonControl {
         }
     }
 
+    /**
+     * The box chrome only depends on the bounds, box and border widths, and hover state,
+     * with box and border changes invalidating the retained geometry
+     */
+    @Override
+    protected boolean isStaticChrome() {
+        return getClass() == CheckBoxControl.class;
+    }
+
     /**
      * Fired when the mouse button is dragged.<p>
      * Equivalent of MouseListener.mouseDragged(MouseEvent e).
@@ -192,15 +213,14 @@ public class CheckBoxControl extends ExtendedButtonControl {
         if (isControlVisible()) {
             final int hoverState = getHoverState(isHoveringOrFocusingOver());
 
-            final String borderColor = hoverState == 2 ? "#FFFFFF" : "#000000";
-            final String contentColor = "#2b2b2b";
+            final int borderColor = hoverState == 2 ? HOVER_BORDER_COLOR : BORDER_COLOR;
 
             RenderUtils.drawGradientBox(
                     getControlPosX(), getControlPosY(),
                     getBoxWidth(), getControlHeight(),
                     getZLevel(),
                     borderColor, borderColor, getBorderWidth(),
-                    contentColor, contentColor
+                    CONTENT_COLOR, CONTENT_COLOR
             );
         }
     }
@@ -295,6 +315,7 @@ public class CheckBoxControl extends ExtendedButtonControl {
     private void syncRenderStates() {
         setControlHeight(getBoxWidth());
         setControlWidth(getBoxWidth() + (getBorderWidth() * 2) + getMaxTextWidth());
+        invalidateRetained();
     }
 
     private void resetRenderStates() {
@@ -24,16 +24,23 @@
 
 package com.gitlab.cdagaming.unilib.utils.gui.controls;
 
+import com.gitlab.cdagaming.unilib.ModUtils;
+import com.gitlab.cdagaming.unilib.core.CoreUtils;
+import com.gitlab.cdagaming.unilib.core.impl.TrackedList;
 import com.gitlab.cdagaming.unilib.utils.gui.RenderUtils;
 import com.gitlab.cdagaming.unilib.utils.gui.integrations.ScrollPane;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import net.minecraft.client.Minecraft;
 
 import javax.annotation.Nullable;
-import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -50,7 +57,7 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
     /**
      * The list of entries in this widget
      */
-    private final List<E> children = new EntryListPane<E>.TrackedList();
+    private final TrackedList<E> children = new TrackedList<>(this::bindEntryToSelf);
     /**
      * The height of the header element, or 0 if disabled
      */
@@ -69,6 +76,31 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
      */
     @Nullable
     private E hovered;
+    /**
+     * The selected entry index, used while entries are provided by a data source
+     */
+    private int selectedIndex = -1;
+    /**
+     * The data source providing the entries of this list, or null if entries are held by {@link EntryListPane#children()}
+     */
+    @Nullable
+    private DataSource<E> dataSource;
+    /**
+     * The entries created for the data source, where a row is held at its index modulo the array length
+     */
+    private E[] boundEntries = newEntryArray(0);
+    /**
+     * The row index each entry in {@link EntryListPane#boundEntries} is bound to, or -1 if unbound
+     */
+    private int[] boundIndices = new int[0];
+    /**
+     * The maximum amount of entries to retain in the list, or 0 if unbounded
+     */
+    private int capacity = 0;
+    /**
+     * The identifier of the latest entry update, used to discard outdated results
+     */
+    private int updateId = 0;
 
     /**
      * Initialization Event for this Control, assigning defined arguments
@@ -113,21 +145,124 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
 
     /**
      * Retrieve the selected entry in the list
+     * <p>
+     * When a {@link DataSource} is in use, the returned entry is a recycled row that is rebound to
+     * another index once its slot is reused, so it should not be retained beyond the current call;
+     * use {@link EntryListPane#getSelectedIndex()} to track the selection instead
      *
      * @return the current selection, or null
      */
     @Nullable
     public E getSelected() {
+        if (dataSource != null) {
+            return selectedIndex >= 0 && selectedIndex < getItemCount() ? getEntry(selectedIndex) : null;
+        }
         return selected;
     }
 
     /**
      * Set the selected entry in the list
+     * <p>
+     * When a {@link DataSource} is in use, the entry's current index is selected,
+     * so prefer {@link EntryListPane#setSelectedIndex(int)} over passing a retained entry
      *
      * @param selected The new selection, which can be null
      */
     public void setSelected(@Nullable final E selected) {
-        this.selected = selected;
+        if (dataSource != null) {
+            this.selectedIndex = selected != null ? selected.index : -1;
+        } else {
+            this.selected = selected;
+        }
+    }
+
+    /**
+     * Retrieve the index of the selected entry in the list
+     *
+     * @return the current selection index, or -1 if nothing is selected
+     */
+    public int getSelectedIndex() {
+        if (dataSource != null) {
+            return selectedIndex;
+        }
+        return selected != null ? indexOfEntry(selected) : -1;
+    }
+
+    /**
+     * Set the selected entry in the list, by its index
+     *
+     * @param index The new selection index, or -1 to clear the selection
+     */
+    public void setSelectedIndex(final int index) {
+        setSelected(index >= 0 && index < getItemCount() ? getEntry(index) : null);
+    }
+
+    /**
+     * Retrieve the data source providing the entries of this list
+     *
+     * @return the current data source, or null if entries are held by {@link EntryListPane#children()}
+     */
+    @Nullable
+    public DataSource<E> getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Set the data source providing the entries of this list, rather than the {@link EntryListPane#children()} list
+     * <p>
+     * While a data source is set, entries are only created for rows being accessed,
+     * and are bound to other rows once they leave the visible area.
+     * The current entries and selection are cleared.
+     *
+     * @param dataSource The new data source, or null to use the {@link EntryListPane#children()} list
+     */
+    public void setDataSource(@Nullable final DataSource<E> dataSource) {
+        this.dataSource = dataSource;
+        boundEntries = newEntryArray(0);
+        boundIndices = new int[0];
+        clearEntries();
+    }
+
+    /**
+     * Ensure enough entries can be bound for the specified amount of consecutive rows, without rebinding
+     * <p>
+     * Existing bindings are discarded if the bound entries must be resized
+     *
+     * @param rowCount The amount of consecutive rows to hold
+     */
+    private void ensureBoundCapacity(final int rowCount) {
+        if (rowCount <= boundEntries.length) {
+            return;
+        }
+        final E[] entries = Arrays.copyOf(boundEntries, rowCount);
+        final int[] indices = new int[rowCount];
+        Arrays.fill(indices, -1);
+        boundEntries = entries;
+        boundIndices = indices;
+    }
+
+    /**
+     * Create an entry array of the specified length
+     *
+     * @param length The length of the array
+     * @return the new entry array
+     */
+    @SuppressWarnings("unchecked")
+    private E[] newEntryArray(final int length) {
+        return (E[]) new Entry<?>[length];
+    }
+
+    /**
+     * Retrieve the index of the specified entry in the list
+     *
+     * @param entry The entry to interpret
+     * @return the entry index, or -1 if not found
+     */
+    protected int indexOfEntry(final E entry) {
+        if (dataSource != null) {
+            return entry != null ? entry.index : -1;
+        }
+        return children().indexOf(entry);
     }
 
     /**
@@ -152,8 +287,11 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
      * Clears the list of entries in this widget
      */
     protected void clearEntries() {
+        updateId++;
         children.clear();
         selected = null;
+        selectedIndex = -1;
+        Arrays.fill(boundIndices, -1);
     }
 
     /**
@@ -166,6 +304,212 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
         children.addAll(collection);
     }
 
+    /**
+     * Sort the current entry list on a worker thread, applying the new order once complete
+     *
+     * @param comparator The comparator to order entries with
+     */
+    protected void sortEntries(final Comparator<? super E> comparator) {
+        updateEntries(children, null, comparator);
+    }
+
+    /**
+     * Filter and sort the specified entries on a worker thread, applying the result once complete
+     * <p>
+     * The entries are copied on the calling thread, while the filter and comparator are invoked on a worker thread,
+     * and must only read entry data that is not modified while the update is pending.
+     * The result is then applied on the main thread through {@link EntryListPane#applyEntries(List)}.
+     * <p>
+     * A pending update is discarded once another update is requested, or once the entry list is cleared or replaced.
+     * If the current entry list is the source, and it is modified while the update is pending, the result is still applied,
+     * without the entries removed since, and with the entries added since merged in at their filtered and sorted position.
+     * <p>
+     * This has no effect while entries are provided by a {@link DataSource}, which owns the order of its entries.
+     *
+     * @param source     The entries to interpret, which may be {@link EntryListPane#children()}
+     * @param filter     The condition for entries to remain in the list, or null to keep all entries
+     * @param comparator The comparator to order entries with, or null to keep the source order
+     */
+    protected void updateEntries(final Collection<E> source,
+                                 @Nullable final Predicate<? super E> filter,
+                                 @Nullable final Comparator<? super E> comparator) {
+        if (dataSource != null) {
+            return;
+        }
+        final int id = ++updateId;
+        final boolean isCurrentList = source == children;
+        final int modCount = children.getModCount();
+        final List<E> snapshot = List.copyOf(source);
+
+        CoreUtils.getThreadPool().execute(() -> {
+            List<E> result = null;
+            try {
+                final List<E> entries = StringUtils.newArrayList();
+                for (E entry : snapshot) {
+                    if (filter == null || filter.test(entry)) {
+                        entries.add(entry);
+                    }
+                }
+                if (comparator != null) {
+                    entries.sort(comparator);
+                }
+                result = entries;
+            } catch (Throwable ex) {
+                CoreUtils.LOG.debugError(ex);
+            }
+
+            final List<E> entries = result;
+            ModUtils.executeOnMainThread(getGameInstance(), () -> {
+                if (id != updateId || entries == null) {
+                    return;
+                }
+                if (isCurrentList && modCount != children.getModCount()) {
+                    applyEntries(mergeEntries(snapshot, entries, filter, comparator));
+                } else {
+                    applyEntries(entries);
+                }
+            });
+        });
+    }
+
+    /**
+     * Merge the changes made to the current entry list since a pending update was requested into its result
+     * <p>
+     * Entries that are no longer present are dropped from the result, while entries added since
+     * are filtered and inserted at their sorted position, or appended if no comparator is specified.
+     * Only the added entries are interpreted here, so this remains cheap compared to a full update.
+     *
+     * @param snapshot   The entries the pending update was computed from
+     * @param result     The filtered and sorted entries of the pending update
+     * @param filter     The condition for entries to remain in the list, or null to keep all entries
+     * @param comparator The comparator to order entries with, or null to keep the source order
+     * @return the merged entry list
+     */
+    private List<E> mergeEntries(final List<E> snapshot, final List<E> result,
+                                 @Nullable final Predicate<? super E> filter,
+                                 @Nullable final Comparator<? super E> comparator) {
+        final Set<E> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addAll(children);
+        final Set<E> previous = Collections.newSetFromMap(new IdentityHashMap<>());
+        previous.addAll(snapshot);
+
+        final List<E> merged = StringUtils.newArrayList();
+        for (E entry : result) {
+            if (current.contains(entry)) {
+                merged.add(entry);
+            }
+        }
+        for (E entry : children) {
+            if (previous.contains(entry) || (filter != null && !filter.test(entry))) {
+                continue;
+            }
+            if (comparator != null) {
+                final int index = Collections.binarySearch(merged, entry, comparator);
+                merged.add(index < 0 ? -(index + 1) : index, entry);
+            } else {
+                merged.add(entry);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Apply the specified entry list, replacing only the range that differs from the current entry list
+     * <p>
+     * The selected and hovered entries are kept while still present, and the scroll
+     * is adjusted so the first visible entry remains at the same position, if still present
+     *
+     * @param entries The new entry list to interpret
+     */
+    protected void applyEntries(final List<E> entries) {
+        final int currentSize = children.size();
+        final int newSize = entries.size();
+        int start = 0;
+        while (start < currentSize && start < newSize && children.get(start) == entries.get(start)) {
+            start++;
+        }
+        if (start == currentSize && start == newSize) {
+            return;
+        }
+        int end = 0;
+        while (end < currentSize - start && end < newSize - start &&
+                children.get(currentSize - 1 - end) == entries.get(newSize - 1 - end)) {
+            end++;
+        }
+
+        final int anchorIndex = getFirstVisibleIndex();
+        final E anchor = anchorIndex < currentSize ? children.get(anchorIndex) : null;
+
+        children.replaceRange(start, currentSize - end, entries.subList(start, newSize - end));
+        if (selected != null && !children.contains(selected)) {
+            selected = null;
+        }
+        if (hovered != null && !children.contains(hovered)) {
+            hovered = null;
+        }
+
+        final int index = anchor != null ? children.indexOf(anchor) : -1;
+        if (index >= 0) {
+            setAmountScrolled(getAmountScrolled() + (index - anchorIndex) * itemHeight);
+        }
+        bindAmountScrolled();
+    }
+
+    /**
+     * Retrieve the maximum amount of entries to retain in the list
+     *
+     * @return the entry capacity, or 0 if unbounded
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Set the maximum amount of entries to retain in the list
+     * <p>
+     * Once the capacity is reached, adding an entry evicts the oldest entry at the opposite end of the list,
+     * in constant time. Entries already exceeding the new capacity are evicted from the top of the list.
+     * <p>
+     * This has no effect while entries are provided by a {@link DataSource}.
+     *
+     * @param capacity The new entry capacity, or 0 if unbounded
+     */
+    public void setCapacity(final int capacity) {
+        this.capacity = Math.max(0, capacity);
+        if (isOverCapacity()) {
+            final float delta = getMaxScroll() - getAmountScrolled();
+            evictEntries(true);
+            setAmountScrolled(getMaxScroll() - delta);
+            bindAmountScrolled();
+        }
+    }
+
+    /**
+     * Retrieve whether the entry list exceeds its capacity
+     *
+     * @return {@link Boolean#TRUE} if entries must be evicted
+     */
+    protected boolean isOverCapacity() {
+        return capacity > 0 && children.size() > capacity;
+    }
+
+    /**
+     * Remove entries from the specified end of the list, until it no longer exceeds its capacity
+     *
+     * @param fromTop Whether to remove entries from the top of the list, rather than the bottom
+     */
+    protected void evictEntries(final boolean fromTop) {
+        while (isOverCapacity()) {
+            final E entry = fromTop ? children.removeFirst() : children.removeLast();
+            if (entry == selected) {
+                selected = null;
+            }
+            if (entry == hovered) {
+                hovered = null;
+            }
+        }
+    }
+
     /**
      * Retrieve the entry at the specified index
      *
@@ -173,7 +517,24 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
      * @return The entry at the specified index, if found
      */
     protected E getEntry(final int index) {
-        return children.get(index);
+        if (dataSource == null) {
+            return children.get(index);
+        }
+
+        ensureBoundCapacity(1);
+        final int slot = Math.floorMod(index, boundEntries.length);
+        E entry = boundEntries[slot];
+        if (entry == null) {
+            entry = dataSource.create();
+            bindEntryToSelf(entry);
+            boundEntries[slot] = entry;
+        }
+        if (boundIndices[slot] != index) {
+            entry.index = index;
+            dataSource.bind(entry, index);
+            boundIndices[slot] = index;
+        }
+        return entry;
     }
 
     /**
@@ -184,6 +545,12 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
      */
     protected int addEntry(final E entry) {
         children.add(entry);
+        if (isOverCapacity()) {
+            final float delta = getMaxScroll() - getAmountScrolled();
+            evictEntries(true);
+            setAmountScrolled(getMaxScroll() - delta);
+            bindAmountScrolled();
+        }
         return getItemCount() - 1;
     }
 
@@ -196,6 +563,10 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
         final float delta = getMaxScroll() - getAmountScrolled();
         children.addFirst(entry);
         setAmountScrolled(getMaxScroll() - delta);
+        if (isOverCapacity()) {
+            evictEntries(false);
+            bindAmountScrolled();
+        }
     }
 
     /**
@@ -217,7 +588,7 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
      * @return The entry list item count
      */
     protected int getItemCount() {
-        return children.size();
+        return dataSource != null ? dataSource.getCount() : children.size();
     }
 
     /**
@@ -227,6 +598,9 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
      * @return {@link Boolean#TRUE} if the index matches the current selection
      */
     protected boolean isSelectedItem(final int index) {
+        if (dataSource != null) {
+            return index == selectedIndex;
+        }
         return Objects.equals(getSelected(), getEntry(index));
     }
 
@@ -305,6 +679,12 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
         // N/A
     }
 
+    @Override
+    public void onGuiClosed() {
+        updateId++;
+        super.onGuiClosed();
+    }
+
     @Override
     public void preRender() {
         super.preRender();
@@ -355,7 +735,16 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
      * @param entry The entry to interpret
      */
     protected void centerScrollOn(final E entry) {
-        setScroll(children().indexOf(entry) * itemHeight + itemHeight / 2f - getScreenHeight() / 2f);
+        centerScrollOn(indexOfEntry(entry));
+    }
+
+    /**
+     * Center the Scrollbar to the specified entry index on the list
+     *
+     * @param index The entry index to interpret
+     */
+    protected void centerScrollOn(final int index) {
+        setScroll(index * itemHeight + itemHeight / 2f - getScreenHeight() / 2f);
     }
 
     /**
@@ -365,7 +754,7 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
      * @param entry The entry to interpret
      */
     protected void ensureVisible(final E entry) {
-        final int rowTop = getRowTop(children().indexOf(entry));
+        final int rowTop = getRowTop(indexOfEntry(entry));
         final int j = rowTop - getScreenY() - getPadding() - itemHeight;
         if (j < 0) {
             scrollBy(j);
@@ -459,16 +848,16 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
      */
     @Nullable
     protected E nextEntry(final int direction, final Predicate<E> predicate, final @Nullable E entry) {
-        if (!children().isEmpty() && direction != 0) {
+        if (getItemCount() > 0 && direction != 0) {
             int index;
             if (entry == null) {
-                index = direction > 0 ? 0 : children().size() - 1;
+                index = direction > 0 ? 0 : getItemCount() - 1;
             } else {
-                index = children().indexOf(entry) + direction;
+                index = indexOfEntry(entry) + direction;
             }
 
             for (int i = index; i >= 0 && i < getItemCount(); i += direction) {
-                final E next = children().get(i);
+                final E next = getEntry(i);
                 if (predicate.test(next)) {
                     return next;
                 }
@@ -504,15 +893,46 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
         final int rowWidth = getRowWidth();
         final int rowHeight = itemHeight - getPadding();
 
-        for (int index = 0; index < getItemCount(); index++) {
-            final int rowTop = getRowTop(index);
-            final int rowBottom = getRowBottom(index);
-            if (rowBottom >= getScreenY() && rowTop <= getBottom()) {
-                renderItem(client, mouseX, mouseY, partialTicks, index, rowLeft, rowTop, rowWidth, rowHeight);
-            }
+        final int firstIndex = getFirstVisibleIndex();
+        final int lastIndex = getLastVisibleIndex();
+        if (dataSource != null) {
+            ensureBoundCapacity(lastIndex - firstIndex + 1);
+        }
+        for (int index = firstIndex; index <= lastIndex; index++) {
+            renderItem(client, mouseX, mouseY, partialTicks, index, rowLeft, getRowTop(index), rowWidth, rowHeight);
         }
     }
 
+    /**
+     * Retrieve the index of the first entry within the visible area of this widget
+     * <p>
+     * Derived directly from the scroll position, as each row shares the same height
+     *
+     * @return The first visible entry index
+     */
+    protected int getFirstVisibleIndex() {
+        if (itemHeight <= 0) {
+            return 0;
+        }
+        final int offset = getScreenY() - getRowTop(0);
+        return Math.max(0, -Math.floorDiv(-offset, itemHeight) - 1);
+    }
+
+    /**
+     * Retrieve the index of the last entry within the visible area of this widget
+     * <p>
+     * Derived directly from the scroll position, as each row shares the same height
+     *
+     * @return The last visible entry index, or -1 if no entries are visible
+     */
+    protected int getLastVisibleIndex() {
+        if (itemHeight <= 0) {
+            return getItemCount() - 1;
+        }
+        final int offset = getBottom() - getRowTop(0);
+        return offset < 0 ? -1 : Math.min(getItemCount() - 1, Math.floorDiv(offset, itemHeight));
+    }
+
     /**
      * Render the specified item for this widget
      *
@@ -654,6 +1074,42 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
         entry.list = this;
     }
 
+    /**
+     * Provides the entries of an {@link EntryListPane} on demand, rather than through {@link EntryListPane#children()}
+     * <p>
+     * Only enough entries to fill the visible rows are created, and each is rebound to a new index as rows scroll,
+     * so entries returned by the list, such as {@link EntryListPane#getSelected()}, are only valid until the next bind;
+     * callers should identify rows by their index, such as through {@link EntryListPane#getSelectedIndex()}
+     *
+     * @param <E> The entry type for the object
+     * @author CDAGaming
+     */
+    public interface DataSource<E extends EntryListPane.Entry<E>> {
+        /**
+         * Retrieve the amount of rows provided by this data source
+         *
+         * @return the row count
+         */
+        int getCount();
+
+        /**
+         * Create a new, unbound entry
+         *
+         * @return the new entry
+         */
+        E create();
+
+        /**
+         * Bind the specified entry to the data at the specified row index
+         * <p>
+         * The entry may have previously been bound to another index, and must be fully overwritten
+         *
+         * @param entry The entry to interpret
+         * @param index The row index to bind the entry to
+         */
+        void bind(final E entry, final int index);
+    }
+
     /**
      * Representation of an Entry for an {@link EntryListPane}
      *
@@ -666,6 +1122,10 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
          */
         @Deprecated
         EntryListPane<E> list;
+        /**
+         * The row index this entry is bound to, used while entries are provided by a data source
+         */
+        int index = -1;
 
         /**
          * Render the entry content to the screen
@@ -736,44 +1196,4 @@ public abstract class EntryListPane<E extends EntryListPane.Entry<E>> extends Sc
             return true;
         }
     }
-
-    /**
-     * Simple List Implementation for tracking entry data
-     *
-     * @author CDAGaming
-     */
-    class TrackedList extends AbstractList<E> {
-        /**
-         * The localized list storage
-         */
-        private final List<E> delegate = StringUtils.newArrayList();
-
-        @Override
-        public E get(final int index) {
-            return this.delegate.get(index);
-        }
-
-        @Override
-        public int size() {
-            return this.delegate.size();
-        }
-
-        @Override
-        public E set(final int index, final E entry) {
-            final E prevEntry = this.delegate.set(index, entry);
-            EntryListPane.this.bindEntryToSelf(entry);
-            return prevEntry;
-        }
-
-        @Override
-        public void add(final int index, final E entry) {
-            this.delegate.add(index, entry);
-            EntryListPane.this.bindEntryToSelf(entry);
-        }
-
-        @Override
-        public E remove(final int index) {
-            return this.delegate.remove(index);
-        }
-    }
 }
@@ -25,12 +25,19 @@
 package com.gitlab.cdagaming.unilib.utils.gui.controls;
 
 import com.gitlab.cdagaming.unilib.utils.gui.RenderUtils;
+import com.gitlab.cdagaming.unilib.utils.gui.RetainedGeometry;
 import com.gitlab.cdagaming.unilib.utils.gui.integrations.ExtendedScreen;
 import com.gitlab.cdagaming.unilib.utils.gui.widgets.DynamicWidget;
+import com.gitlab.cdagaming.unilib.utils.gui.widgets.ObservableValue;
+import com.gitlab.cdagaming.unilib.utils.gui.widgets.ValueBinding;
+import io.github.cdagaming.unicore.utils.StringUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiButton;
 
 import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Extended Gui Widget for a Clickable Button
@@ -54,6 +61,18 @@ public class ExtendedButtonControl extends GuiButton implements DynamicWidget {
      * Whether the mouse is currently within screen bounds
      */
     private boolean isOverScreen = false;
+    /**
+     * Whether the mouse is within the bounds of this Control, as resolved by its screen
+     */
+    private boolean isUnderMouse = false;
+    /**
+     * The value bindings for this Control, updated before each render
+     */
+    private final List<ValueBinding<?>> bindings = StringUtils.newArrayList();
+    /**
+     * The retained geometry for the chrome of this Control, replayed while its bounds and hover state are unchanged
+     */
+    private final RetainedGeometry chromeGeometry = new RetainedGeometry();
 
     /**
      * Initialization Event for this Control, assigning defined arguments
@@ -180,6 +199,83 @@ public class ExtendedButtonControl extends GuiButton implements DynamicWidget {
     @Override
     public void preDraw(ExtendedScreen screen) {
         isOverScreen = RenderUtils.isMouseOver(screen);
+        isUnderMouse = isControlVisible() && screen.isMouseOver(this);
+        updateBindings();
+    }
+
+    /**
+     * Add a value binding to this Control, to be updated before each render
+     *
+     * @param binding The binding to interpret
+     * @param <T>     The binding value type
+     * @return The added binding
+     */
+    public <T> ValueBinding<T> addBinding(final ValueBinding<T> binding) {
+        bindings.add(binding);
+        return binding;
+    }
+
+    /**
+     * Bind this Control's display message to the specified source
+     * <p>
+     * The message is only recomputed when one of the specified dependencies changes
+     *
+     * @param source       The function used to compute the display message
+     * @param dependencies The dependencies of the display message
+     * @return The added binding
+     */
+    public ValueBinding<String> bindControlMessage(final Supplier<String> source, final Supplier<?>... dependencies) {
+        return addBinding(new ValueBinding<>(source, this::setControlMessage, dependencies));
+    }
+
+    /**
+     * Bind this Control's enabled state to the specified source
+     * <p>
+     * The enabled state is only recomputed when one of the specified dependencies changes
+     *
+     * @param source       The function used to compute the enabled state
+     * @param dependencies The dependencies of the enabled state
+     * @return The added binding
+     */
+    public ValueBinding<Boolean> bindControlEnabled(final Supplier<Boolean> source, final Supplier<?>... dependencies) {
+        return addBinding(new ValueBinding<>(source, this::setControlEnabled, dependencies));
+    }
+
+    /**
+     * Bind this Control's display message to the specified value
+     * <p>
+     * The message is applied immediately, and then only when the value changes, without being polled each render
+     *
+     * @param source The value to interpret as the display message
+     * @return The added listener, to be removed from the value once this Control is discarded
+     */
+    public Consumer<String> bindControlMessage(final ObservableValue<String> source) {
+        final Consumer<String> listener = this::setControlMessage;
+        source.bind(listener);
+        return listener;
+    }
+
+    /**
+     * Bind this Control's enabled state to the specified value
+     * <p>
+     * The enabled state is applied immediately, and then only when the value changes, without being polled each render
+     *
+     * @param source The value to interpret as the enabled state
+     * @return The added listener, to be removed from the value once this Control is discarded
+     */
+    public Consumer<Boolean> bindControlEnabled(final ObservableValue<Boolean> source) {
+        final Consumer<Boolean> listener = this::setControlEnabled;
+        source.bind(listener);
+        return listener;
+    }
+
+    /**
+     * Update the value bindings for this Control, applying any changed values
+     */
+    public void updateBindings() {
+        for (ValueBinding<?> binding : bindings) {
+            binding.update();
+        }
     }
 
     @Override
@@ -197,9 +293,9 @@ public class ExtendedButtonControl extends GuiButton implements DynamicWidget {
     @Override
     public void drawButton(@Nonnull Minecraft mc, int mouseX, int mouseY, float partialTicks) {
         if (isControlVisible()) {
-            setHoveringOver(isOverScreen() && RenderUtils.isMouseOver(mouseX, mouseY, this));
+            setHoveringOver(isOverScreen() && isUnderMouse());
 
-            mouseDragged(mc, mouseX, mouseY);
+            renderChrome(mc, mouseX, mouseY);
             final int color;
 
             if (!isControlEnabled()) {
@@ -210,7 +306,7 @@ public class ExtendedButtonControl extends GuiButton implements DynamicWidget {
                 color = 14737632;
             }
 
-            RenderUtils.renderScrollingString(mc,
+            RenderUtils.queueScrollingString(mc,
                     mc.fontRenderer, getControlMessage(),
                     getLeft() + 2, getTop(),
                     getRight() - 2, getBottom(),
@@ -219,6 +315,52 @@ public class ExtendedButtonControl extends GuiButton implements DynamicWidget {
         }
     }
 
+    /**
+     * Render the chrome of this Control, replaying its retained geometry if it is static and unchanged
+     * <p>
+     * The geometry is recorded again whenever the bounds, z level or hover state of this Control change
+     *
+     * @param mc     The Minecraft Instance
+     * @param mouseX The Mouse's Current X Position
+     * @param mouseY The Mouse's Current Y Position
+     */
+    protected void renderChrome(@Nonnull final Minecraft mc, final int mouseX, final int mouseY) {
+        if (isStaticChrome()) {
+            chromeGeometry.validate(this,
+                    getControlPosX(), getControlPosY(),
+                    getControlWidth(), getControlHeight(),
+                    getZLevel(), getHoverState(isHoveringOrFocusingOver())
+            );
+            if (!RenderUtils.beginRetained(mc, chromeGeometry)) {
+                return;
+            }
+        }
+
+        mouseDragged(mc, mouseX, mouseY);
+        RenderUtils.endRetained(chromeGeometry);
+    }
+
+    /**
+     * Whether the chrome of this Control only depends on its bounds, z level and hover state,
+     * allowing its geometry to be retained between frames
+     * <p>
+     * Retention is opt-in, so this is only enabled for the stock chrome of this class.
+     * Subclasses may override this once their chrome is known to depend on nothing else,
+     * calling {@link ExtendedButtonControl#invalidateRetained()} whenever other chrome state changes.
+     *
+     * @return {@link Boolean#TRUE} if the chrome geometry can be retained
+     */
+    protected boolean isStaticChrome() {
+        return getClass() == ExtendedButtonControl.class;
+    }
+
+    /**
+     * Discard any retained geometry, causing it to be recorded again upon the next render
+     */
+    public void invalidateRetained() {
+        chromeGeometry.invalidate();
+    }
+
     /**
      * Fired when the mouse button is dragged.<p>
      * Equivalent of MouseListener.mouseDragged(MouseEvent e).
@@ -299,6 +441,15 @@ public class ExtendedButtonControl extends GuiButton implements DynamicWidget {
         return isOverScreen;
     }
 
+    /**
+     * Get whether the mouse is within the bounds of this Control
+     *
+     * @return {@link Boolean#TRUE} is condition is satisfied
+     */
+    public boolean isUnderMouse() {
+        return isUnderMouse;
+    }
+
     /**
      * Retrieves, if any, the Optional Arguments assigned within this Control
      *
@@ -68,6 +68,22 @@ public class ScrollableListControl extends EntryListPane<ScrollableListControl.S
     public ScrollableListControl(@Nonnull final Minecraft mc, final ExtendedScreen parentScreen, final int width, final int height, final int topIn, final int bottomIn, final int slotHeightIn, final List<String> itemList, final String currentValue) {
         super(mc, width, height, topIn, slotHeightIn);
         setParent(parentScreen);
+        setDataSource(new DataSource<>() {
+            @Override
+            public int getCount() {
+                return ScrollableListControl.this.itemList.size();
+            }
+
+            @Override
+            public StringEntry create() {
+                return new StringEntry(null);
+            }
+
+            @Override
+            public void bind(final StringEntry entry, final int index) {
+                entry.name = ScrollableListControl.this.itemList.get(index);
+            }
+        });
         setList(itemList);
         this.currentValue = currentValue;
     }
@@ -104,16 +120,6 @@ public class ScrollableListControl extends EntryListPane<ScrollableListControl.S
         }
     }
 
-    /**
-     * Retrieves the Amount of Items in the List
-     *
-     * @return The Amount of Items in the List
-     */
-    @Override
-    protected int getItemCount() {
-        return itemList.size();
-    }
-
     /**
      * Sets the item list to be rendered (And resets the scroll if needed)
      *
@@ -144,21 +150,21 @@ public class ScrollableListControl extends EntryListPane<ScrollableListControl.S
     }
 
     /**
-     * Setup Mappings between the entries original name, and it's entry variant
+     * Synchronize the selection with the current value, and reset any bound entries
+     * <p>
+     * Entries are created on demand for visible rows, so only the selection index needs resolving here
      */
     public void syncEntries() {
-        clearEntries();
-
-        for (String item : StringUtils.newArrayList(itemList)) {
-            final StringEntry dataEntry = new StringEntry(item);
-            addEntry(dataEntry);
-            if (item.equals(currentValue)) {
-                setSelected(dataEntry);
-            }
+        int index = getSelectedIndex();
+        if (index < 0 || index >= itemList.size() || !itemList.get(index).equals(currentValue)) {
+            index = currentValue != null ? itemList.indexOf(currentValue) : -1;
         }
 
-        if (getSelected() != null) {
-            centerScrollOn(getSelected());
+        clearEntries();
+        setSelectedIndex(index);
+
+        if (index >= 0) {
+            centerScrollOn(index);
         }
     }
 
@@ -196,7 +202,7 @@ public class ScrollableListControl extends EntryListPane<ScrollableListControl.S
         /**
          * The name of this Entry
          */
-        private final String name;
+        private String name;
 
         /**
          * Initialization Event for this Control, assigning defined arguments
@@ -26,6 +26,8 @@ package com.gitlab.cdagaming.unilib.utils.gui.controls;
 
 import com.gitlab.cdagaming.unilib.utils.gui.RenderUtils;
 import com.gitlab.cdagaming.unilib.utils.gui.integrations.ExtendedScreen;
+import com.gitlab.cdagaming.unilib.utils.gui.widgets.ObservableValue;
+import com.gitlab.cdagaming.unilib.utils.gui.widgets.ValueBinding;
 import io.github.cdagaming.unicore.impl.Pair;
 import io.github.cdagaming.unicore.impl.Tuple;
 import io.github.cdagaming.unicore.utils.MathUtils;
@@ -60,7 +62,7 @@ public class SliderControl extends ExtendedButtonControl {
     /**
      * The formatting for the "suffix" portion of the Slider Name
      */
-    private String valueFormat = "%.1f";
+    private final ObservableValue<String> valueFormat = new ObservableValue<>("%.1f");
     /**
      * The Normalized Slider Value between 0.0f and 1.0f
      */
@@ -77,6 +79,16 @@ public class SliderControl extends ExtendedButtonControl {
      * The event to occur when sliding occurs
      */
     private Runnable onSlideEvent;
+    /**
+     * The binding for the Slider's Display Message, recomputed only when the value or formatting changes
+     * <p>
+     * Formatting changes invalidate the binding directly, leaving only the slider value to be compared
+     */
+    private final ValueBinding<String> messageBinding = new ValueBinding<>(
+            () -> this.windowTitle + ": " + String.format(getValueFormat(), getSliderValue()),
+            this::setControlMessage,
+            this::getSliderValue
+    );
 
     /**
      * Initialization Event for this Control, assigning defined arguments
@@ -97,6 +109,7 @@ public class SliderControl extends ExtendedButtonControl {
         this.maxValue = maxValue;
         this.valueStep = valueStep;
         this.windowTitle = displayString;
+        valueFormat.addListener(format -> messageBinding.invalidate());
         setSliderValue(startValue);
     }
 
@@ -320,7 +333,7 @@ public class SliderControl extends ExtendedButtonControl {
      * @return The formatting for the "suffix" portion of the Slider Name
      */
     public String getValueFormat() {
-        return valueFormat;
+        return valueFormat.get();
     }
 
     /**
@@ -329,7 +342,7 @@ public class SliderControl extends ExtendedButtonControl {
      * @param newFormat the new formatting for the Slider Name "suffix"
      */
     public void setValueFormat(final String newFormat) {
-        valueFormat = newFormat;
+        valueFormat.set(newFormat);
         updateMessage();
     }
 
@@ -363,8 +376,10 @@ public class SliderControl extends ExtendedButtonControl {
 
     /**
      * Update the Slider's Display Message
+     * <p>
+     * The message is only reformatted when the slider value or its formatting has changed
      */
     public void updateMessage() {
-        setControlMessage(windowTitle + ": " + String.format(getValueFormat(), getSliderValue()));
+        messageBinding.update();
     }
 }
\ No newline at end of file
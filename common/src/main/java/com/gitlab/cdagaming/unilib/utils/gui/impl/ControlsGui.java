@@ -33,6 +33,7 @@ import com.gitlab.cdagaming.unilib.utils.gui.widgets.ButtonWidget;
 import com.gitlab.cdagaming.unilib.utils.gui.widgets.ScrollableTextWidget;
 import io.github.cdagaming.unicore.impl.Tuple;
 import io.github.cdagaming.unicore.utils.StringUtils;
+import net.minecraft.client.gui.Gui;
 
 import java.util.List;
 import java.util.Map;
@@ -45,9 +46,11 @@ public class ControlsGui extends ExtendedScreen {
     // On Key Changed Event
     private final Runnable onKeyChanged;
     // Format: categoryName:keyNames
-    private final Map<String, List<String>> categorizedNames = StringUtils.newHashMap();
+    private Map<String, List<String>> categorizedNames;
     // Format: categoryName:displayName
-    private final Map<String, String> categoryNames = StringUtils.newHashMap();
+    private Map<String, String> categoryNames;
+    // The sorted mappings built by the latest preparation, awaiting publishing on the main thread
+    private volatile SortedMappings preparedMappings;
     // Pair Format: buttonToModify, Config Field to Edit
     // (Store a Backup of Prior Text just in case)
     private String backupKeyString;
@@ -59,7 +62,6 @@ public class ControlsGui extends ExtendedScreen {
         this.instance = instance;
         this.onKeyChanged = onKeyChanged;
         this.keyMappings = keyMappings;
-        sortMappings();
     }
 
     public ControlsGui(final Runnable onKeyChanged, final Map<String, KeyUtils.KeyBindData> keyMappings) {
@@ -82,6 +84,36 @@ public class ControlsGui extends ExtendedScreen {
         this(KeyUtils.INSTANCE, onKeyChanged, filterData);
     }
 
+    @Override
+    public boolean isAsyncConstruction() {
+        return true;
+    }
+
+    @Override
+    public void prepareElements() {
+        preparedMappings = sortMappings();
+    }
+
+    @Override
+    public void onElementsPrepared() {
+        final SortedMappings mappings = preparedMappings;
+        if (mappings != null) {
+            categorizedNames = mappings.categorizedNames();
+            categoryNames = mappings.categoryNames();
+            preparedMappings = null;
+        }
+    }
+
+    @Override
+    public boolean isPrepared() {
+        return categorizedNames != null;
+    }
+
+    @Override
+    public boolean isStaticBackground() {
+        return true;
+    }
+
     @Override
     public void constructElements() {
         super.constructElements();
@@ -120,8 +152,14 @@ public class ControlsGui extends ExtendedScreen {
 
     /**
      * Sort Key Mappings via their categories, used for placement into gui
+     * <p>
+     * The result is built into new maps, so that concurrent preparations do not share state
+     *
+     * @return the sorted key mappings
      */
-    private void sortMappings() {
+    private SortedMappings sortMappings() {
+        final Map<String, List<String>> categorizedNames = StringUtils.newHashMap();
+        final Map<String, String> categoryNames = StringUtils.newHashMap();
         for (Map.Entry<String, KeyUtils.KeyBindData> entry : keyMappings.entrySet()) {
             final String keyName = entry.getKey();
             final KeyUtils.KeyBindData keyData = entry.getValue();
@@ -136,6 +174,7 @@ public class ControlsGui extends ExtendedScreen {
                 categoryNames.put(keyCategory, keyData.categoryName());
             }
         }
+        return new SortedMappings(categorizedNames, categoryNames);
     }
 
     /**
@@ -144,10 +183,15 @@ public class ControlsGui extends ExtendedScreen {
     private void setupScreenData() {
         // Clear any Prior Data beforehand
         clearEntryData();
+        if (categorizedNames == null) {
+            return;
+        }
 
         int currentAllocatedRow = 0;
+        final List<Gui> keyControls = StringUtils.newArrayList();
 
         for (Map.Entry<String, List<String>> entry : categorizedNames.entrySet()) {
+            keyControls.clear();
             childFrame.addWidget(new ScrollableTextWidget(
                     true,
                     0, getButtonY(currentAllocatedRow),
@@ -193,11 +237,13 @@ public class ControlsGui extends ExtendedScreen {
 
                 keyResetButton.setControlEnabled(keyCode != keyData.defaultKeyCode());
 
-                childFrame.addControl(keyCodeWidget);
-                childFrame.addControl(keyResetButton);
+                keyControls.add(keyCodeWidget);
+                keyControls.add(keyResetButton);
 
                 currentAllocatedRow++;
             }
+            // Register each category's rows after its header, keeping the widgets in display order
+            childFrame.addControls(keyControls);
         }
     }
 
@@ -276,4 +322,13 @@ public class ControlsGui extends ExtendedScreen {
         backupKeyString = null;
         entryData = null;
     }
+
+    /**
+     * Key Mappings sorted via their categories
+     *
+     * @param categorizedNames The key names within each category
+     * @param categoryNames    The display name of each category
+     */
+    private record SortedMappings(Map<String, List<String>> categorizedNames, Map<String, String> categoryNames) {
+    }
 }
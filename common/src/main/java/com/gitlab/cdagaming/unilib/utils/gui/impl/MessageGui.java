@@ -59,6 +59,11 @@ public class MessageGui extends ExtendedScreen {
         ));
     }
 
+    @Override
+    public boolean isStaticBackground() {
+        return true;
+    }
+
     @Override
     public void constructElements() {
         super.constructElements();
@@ -25,6 +25,7 @@
 package com.gitlab.cdagaming.unilib.utils.gui.impl;
 
 import com.gitlab.cdagaming.unilib.core.CoreUtils;
+import com.gitlab.cdagaming.unilib.core.impl.SearchIndex;
 import com.gitlab.cdagaming.unilib.utils.gui.controls.ExtendedButtonControl;
 import com.gitlab.cdagaming.unilib.utils.gui.controls.ExtendedTextControl;
 import com.gitlab.cdagaming.unilib.utils.gui.controls.ScrollableListControl;
@@ -33,13 +34,20 @@ import io.github.cdagaming.unicore.utils.StringUtils;
 import net.minecraft.client.gui.GuiScreen;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 /**
  * The Selector Gui Screen
  */
 public class SelectorGui extends ExtendedScreen {
+    /**
+     * The delay, in milliseconds, to wait for further input before filtering the list
+     */
+    private static final long SEARCH_DELAY = 150L;
     private final String attributeName, originalValue;
     private final List<String> originalList;
     private final boolean allowContinuing, allowDynamicEditing;
@@ -48,8 +56,11 @@ public class SelectorGui extends ExtendedScreen {
     private ExtendedButtonControl proceedButton;
     private ScrollableListControl scrollList;
     private ExtendedTextControl searchBox;
-    private String searchTerm;
+    private String searchTerm = "";
     private List<String> itemList;
+    private SearchIndex searchIndex;
+    private ScheduledFuture<?> pendingSearch;
+    private volatile SearchResult searchResult;
 
     /**
      * Initialization Event for this Control, assigning defined arguments
@@ -120,6 +131,11 @@ public class SelectorGui extends ExtendedScreen {
         this(mainTitle, list, currentValue, attributeName, allowContinuing, allowDynamicEditing, null, onAdjustDynamicEntry);
     }
 
+    @Override
+    public boolean isStaticBackground() {
+        return true;
+    }
+
     @Override
     public void constructElements() {
         super.constructElements();
@@ -182,6 +198,12 @@ public class SelectorGui extends ExtendedScreen {
                         }
                 )
         );
+        proceedButton.bindControlMessage(
+                () -> allowContinuing && scrollList.currentValue != null &&
+                        ((getOriginalValue() != null && !scrollList.currentValue.equals(getOriginalValue())) || (StringUtils.isNullOrEmpty(getOriginalValue()))) ?
+                        "Continue" : "Back",
+                () -> scrollList.currentValue, this::getOriginalValue
+        );
         int searchBoxRight = proceedButton.getLeft() - 6;
 
         if (allowDynamicEditing && onAdjustDynamicEntry != null) {
@@ -206,33 +228,84 @@ public class SelectorGui extends ExtendedScreen {
         );
     }
 
+    /**
+     * Retrieve the distinct items containing the specified search term, ignoring case
+     * <p>
+     * The original list is searched through its cached {@link SearchIndex},
+     * while any other list is scanned directly, as an index would only be used once
+     *
+     * @param searchTerm    The search term to interpret
+     * @param originalItems The items to filter
+     * @return the matching items, in their original order
+     */
     protected List<String> getFilteredList(final String searchTerm, final List<String> originalItems) {
-        final List<String> modifiedList = StringUtils.newArrayList();
+        if (originalItems == originalList) {
+            return getSearchIndex().search(searchTerm);
+        }
 
+        final String query = StringUtils.isNullOrEmpty(searchTerm) ? "" : SearchIndex.normalize(searchTerm);
+        final Map<String, Boolean> seen = StringUtils.newHashMap();
+        final List<String> modifiedList = StringUtils.newArrayList();
         for (String item : originalItems) {
-            if (!modifiedList.contains(item) && item.toLowerCase().contains(searchTerm.toLowerCase())) {
+            if (item != null && !seen.containsKey(item) && SearchIndex.normalize(item).contains(query)) {
+                seen.put(item, Boolean.TRUE);
                 modifiedList.add(item);
-                break;
             }
         }
         return modifiedList;
     }
 
-    @Override
-    public void preRender() {
-        final List<String> originalItems = StringUtils.newArrayList(originalList);
+    /**
+     * Retrieve the search index for the original list, building it if needed
+     *
+     * @return the search index for the original list
+     */
+    protected synchronized SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex(originalList);
+        }
+        return searchIndex;
+    }
 
-        if (!searchBox.getControlMessage().isEmpty()) {
-            if (!searchBox.getControlMessage().equals(searchTerm)) {
-                searchTerm = searchBox.getControlMessage();
-                itemList = getFilteredList(searchTerm, originalItems);
-            }
+    /**
+     * Schedule filtering of the original list with the specified search term
+     * <p>
+     * Filtering occurs off the render thread once input has settled, replacing any pending search
+     *
+     * @param searchTerm The search term to interpret
+     */
+    protected void scheduleSearch(final String searchTerm) {
+        cancelSearch();
+        if (searchTerm.isEmpty()) {
+            applyItemList(originalList);
         } else {
-            itemList = originalItems;
+            pendingSearch = CoreUtils.getThreadPool().schedule(
+                    () -> searchResult = new SearchResult(searchTerm, getFilteredList(searchTerm, originalList)),
+                    SEARCH_DELAY, TimeUnit.MILLISECONDS
+            );
         }
+    }
 
-        if (!getItemList().equals(originalItems) && !getItemList().contains(scrollList.currentValue)) {
-            if (getOriginalValue() != null && getItemList().contains(getOriginalValue())) {
+    /**
+     * Cancel any pending search, discarding its result
+     */
+    protected void cancelSearch() {
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+        searchResult = null;
+    }
+
+    /**
+     * Apply the specified items to the list control, adjusting the selection if needed
+     *
+     * @param items The items to display
+     */
+    protected void applyItemList(final List<String> items) {
+        itemList = items;
+        if (items != originalList && !items.contains(scrollList.currentValue)) {
+            if (getOriginalValue() != null && items.contains(getOriginalValue())) {
                 scrollList.currentValue = getOriginalValue();
             } else {
                 scrollList.currentValue = null;
@@ -240,18 +313,34 @@ public class SelectorGui extends ExtendedScreen {
         } else if (scrollList.currentValue == null && getOriginalValue() != null) {
             scrollList.currentValue = getOriginalValue();
         }
+        scrollList.setList(items);
+    }
 
-        scrollList.setList(getItemList());
+    @Override
+    public void preRender() {
+        final String currentTerm = searchBox.getControlMessage();
+        if (!currentTerm.equals(searchTerm)) {
+            searchTerm = currentTerm;
+            scheduleSearch(currentTerm);
+        }
 
-        proceedButton.setControlMessage(
-                allowContinuing && scrollList.currentValue != null &&
-                        ((getOriginalValue() != null && !scrollList.currentValue.equals(getOriginalValue())) || (StringUtils.isNullOrEmpty(getOriginalValue()))) ?
-                        "Continue" : "Back"
-        );
+        final SearchResult result = searchResult;
+        if (result != null) {
+            searchResult = null;
+            if (result.searchTerm().equals(searchTerm)) {
+                applyItemList(result.items());
+            }
+        }
 
         super.preRender();
     }
 
+    @Override
+    public void onGuiClosed() {
+        cancelSearch();
+        super.onGuiClosed();
+    }
+
     @Override
     public void renderStringData() {
         super.renderStringData();
@@ -265,4 +354,13 @@ public class SelectorGui extends ExtendedScreen {
                 0xFFFFFF
         );
     }
+
+    /**
+     * A completed search, paired with the search term it was computed for
+     *
+     * @param searchTerm The search term that was interpreted
+     * @param items      The items matching the search term
+     */
+    private record SearchResult(String searchTerm, List<String> items) {
+    }
 }
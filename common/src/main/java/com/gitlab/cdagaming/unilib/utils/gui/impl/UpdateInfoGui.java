@@ -40,6 +40,7 @@ public class UpdateInfoGui extends ExtendedScreen {
     private final String changelogPrefix = "Changelog:";
     private final ModUpdaterUtils modUpdater;
     private TextDisplayWidget infoPane;
+    private String preparedNotes;
     private ExtendedButtonControl downloadButton, checkButton;
 
     /**
@@ -53,6 +54,21 @@ public class UpdateInfoGui extends ExtendedScreen {
         this.modUpdater = modUpdater;
     }
 
+    @Override
+    public boolean isAsyncConstruction() {
+        return true;
+    }
+
+    @Override
+    public void prepareElements() {
+        preparedNotes = buildNotes();
+    }
+
+    @Override
+    public boolean isStaticBackground() {
+        return true;
+    }
+
     @Override
     public void constructElements() {
         super.constructElements();
@@ -99,7 +115,7 @@ public class UpdateInfoGui extends ExtendedScreen {
                 childFrame.getScreenWidth()
         ));
 
-        updateNotes();
+        updateNotes(preparedNotes);
     }
 
     @Override
@@ -119,6 +135,19 @@ public class UpdateInfoGui extends ExtendedScreen {
     }
 
     private void updateNotes() {
+        updateNotes(buildNotes());
+    }
+
+    private void updateNotes(final String notes) {
+        if (notes != null) {
+            infoPane.setMessage(notes);
+        } else {
+            resetNotes();
+        }
+        updateInfo();
+    }
+
+    private String buildNotes() {
         if (modUpdater.hasChanges()) {
             final StringBuilder notice = new StringBuilder();
             notice.append(changelogPrefix);
@@ -129,11 +158,9 @@ public class UpdateInfoGui extends ExtendedScreen {
                         .append('\n').append(entry.getValue())
                         .append('\n').append(' ');
             }
-            infoPane.setMessage(notice.toString());
-        } else {
-            resetNotes();
+            return notice.toString();
         }
-        updateInfo();
+        return null;
     }
 
     private void updateInfo(final String status) {
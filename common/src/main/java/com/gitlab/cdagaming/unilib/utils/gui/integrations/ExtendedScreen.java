@@ -25,13 +25,18 @@
 package com.gitlab.cdagaming.unilib.utils.gui.integrations;
 
 import com.gitlab.cdagaming.unilib.ModUtils;
+import com.gitlab.cdagaming.unilib.core.CoreUtils;
+import com.gitlab.cdagaming.unilib.core.impl.TrackedList;
 import com.gitlab.cdagaming.unilib.core.impl.screen.ScreenConstants;
+import com.gitlab.cdagaming.unilib.core.impl.screen.TooltipLayout;
 import com.gitlab.cdagaming.unilib.utils.GameUtils;
 import com.gitlab.cdagaming.unilib.utils.WorldUtils;
 import com.gitlab.cdagaming.unilib.utils.gui.RenderUtils;
+import com.gitlab.cdagaming.unilib.utils.gui.RetainedGeometry;
 import com.gitlab.cdagaming.unilib.utils.gui.controls.ExtendedButtonControl;
 import com.gitlab.cdagaming.unilib.utils.gui.controls.ExtendedTextControl;
 import com.gitlab.cdagaming.unilib.utils.gui.widgets.DynamicWidget;
+import com.gitlab.cdagaming.unilib.utils.gui.widgets.WidgetGrid;
 import io.github.cdagaming.unicore.impl.Tuple;
 import io.github.cdagaming.unicore.utils.MathUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
@@ -42,8 +47,7 @@ import org.lwjgl.input.Keyboard;
 import org.lwjgl.input.Mouse;
 
 import javax.annotation.Nonnull;
-import java.awt.*;
-import java.util.List;
+import java.util.*;
 
 /**
  * An Extended and Globalized Gui Screen
@@ -79,6 +83,26 @@ public class ExtendedScreen extends GuiScreen {
      * Similar to buttonList, a list of compatible ScrollLists in this Screen
      */
     private final List<GuiSlot> extendedLists = StringUtils.newArrayList();
+    /**
+     * The text controls within the compatible controls, partitioned for event dispatch
+     */
+    private final List<ExtendedTextControl> extendedTextControls = StringUtils.newArrayList();
+    /**
+     * The child screens within the compatible controls, partitioned for event dispatch
+     */
+    private final List<ExtendedScreen> childScreens = StringUtils.newArrayList();
+    /**
+     * The registered compatible controls, used for constant-time registration checks
+     */
+    private final Set<Gui> registeredControls = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * The registered compatible widgets, used for constant-time registration checks
+     */
+    private final Set<DynamicWidget> registeredWidgets = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * The registered compatible ScrollLists, used for constant-time registration checks
+     */
+    private final Set<GuiSlot> registeredLists = Collections.newSetFromMap(new IdentityHashMap<>());
     /**
      * The Screen Title, if any
      */
@@ -133,6 +157,14 @@ public class ExtendedScreen extends GuiScreen {
      * Whether the mouse is currently within screen bounds
      */
     private boolean isOverScreen;
+    /**
+     * Whether a widget has changed its layout since the content height was last refreshed
+     */
+    private boolean layoutDirty;
+    /**
+     * The identifier of the current asynchronous preparation, used to discard stale results
+     */
+    private int preparationId = 0;
     /**
      * Whether controls can be modified on this screen, true by default
      */
@@ -142,6 +174,34 @@ public class ExtendedScreen extends GuiScreen {
      * Restore Buttons, if any, for screen re-initialization
      */
     private final List<GuiButton> restoreButtons = StringUtils.newArrayList();
+    /**
+     * The retained background geometry, used when the background is static
+     */
+    private final RetainedGeometry backgroundGeometry = new RetainedGeometry();
+    /**
+     * The spatial index of this Screen's widgets, used for mouse hit-testing
+     */
+    private final WidgetGrid widgetGrid = new WidgetGrid();
+    /**
+     * The widgets under the mouse, as of the last render or mouse event
+     */
+    private final List<DynamicWidget> hoveredWidgets = StringUtils.newArrayList();
+    /**
+     * The buttons placed into the button list that were not registered as widgets at that time
+     * <p>
+     * Entries are pruned once registered as a widget, or once no longer within the button list
+     */
+    private final Set<GuiButton> unindexedButtons = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * The button list of this Screen, tracking each button placed into it
+     * <p>
+     * This replaces the vanilla button list, so that buttons added to it directly are still noticed
+     */
+    private final TrackedList<GuiButton> trackedButtons = new TrackedList<>(this::onButtonInserted);
+    /**
+     * The button pressed during the last click dispatched from the widget index, awaiting its release
+     */
+    private GuiButton pressedButton;
 
     /**
      * Initialization Event for this Control, assigning defined arguments
@@ -151,6 +211,7 @@ public class ExtendedScreen extends GuiScreen {
      * @param subTitle     The Screen subtitle, if any
      */
     public ExtendedScreen(final GuiScreen parentScreen, final String title, final String subTitle) {
+        buttonList = trackedButtons;
         setGameInstance(ModUtils.getMinecraft());
         setParent(parentScreen);
         currentScreen = this;
@@ -292,9 +353,113 @@ public class ExtendedScreen extends GuiScreen {
         clearData();
         enableRepeatEvents(true);
 
-        currentPhase = Phase.INIT;
-        initializeUi();
-        currentPhase = Phase.READY;
+        if (isAsyncConstruction() && !isPrepared()) {
+            // Publish the current glyph widths, so preparation can measure text without reading the font
+            RenderUtils.getGlyphWidths(getFontRenderer());
+            beginPreparation();
+        } else {
+            currentPhase = Phase.INIT;
+            initializeUi();
+            currentPhase = Phase.READY;
+        }
+    }
+
+    /**
+     * Retrieve whether this Screen prepares its elements asynchronously
+     * <p>
+     * When enabled, {@link ExtendedScreen#prepareElements()} runs on a worker thread while a placeholder
+     * is rendered, and the Screen is then initialized on the main thread once preparation completes
+     *
+     * @return {@link Boolean#TRUE} if construction is asynchronous
+     */
+    public boolean isAsyncConstruction() {
+        return false;
+    }
+
+    /**
+     * Prepares any data needed to construct this Screen's elements
+     * <p>
+     * When {@link ExtendedScreen#isAsyncConstruction()} is enabled, this runs on a worker thread,
+     * and must not add controls or otherwise modify the Screen's controls.
+     * Preparation may run more than once at a time, so results should be built into locals,
+     * and only published to the Screen through {@link ExtendedScreen#onElementsPrepared()}
+     */
+    public void prepareElements() {
+        // N/A
+    }
+
+    /**
+     * Event to trigger on the main thread once preparation completes, before the Screen is initialized
+     * <p>
+     * Primarily used for publishing the results of {@link ExtendedScreen#prepareElements()}
+     */
+    public void onElementsPrepared() {
+        // N/A
+    }
+
+    /**
+     * Retrieve whether the data needed to construct this Screen's elements has already been prepared
+     * <p>
+     * When {@link Boolean#TRUE}, asynchronous preparation is skipped, and the Screen is initialized immediately,
+     * such as when the Screen is resized after its first preparation
+     *
+     * @return {@link Boolean#TRUE} if preparation can be skipped
+     */
+    public boolean isPrepared() {
+        return false;
+    }
+
+    /**
+     * Begin preparing this Screen's elements on a worker thread
+     * <p>
+     * The Screen is initialized on the main thread once preparation completes,
+     * unless it has since been re-initialized or closed
+     */
+    private void beginPreparation() {
+        currentPhase = Phase.PREPARING;
+        final int id = ++preparationId;
+        CoreUtils.getThreadPool().execute(() -> {
+            try {
+                prepareElements();
+            } catch (Throwable ex) {
+                CoreUtils.LOG.debugError(ex);
+            }
+            ModUtils.executeOnMainThread(getGameInstance(), () -> {
+                if (id == preparationId && isPreparing()) {
+                    onElementsPrepared();
+                    currentPhase = Phase.INIT;
+                    initializeUi();
+                    currentPhase = Phase.READY;
+                }
+            });
+        });
+    }
+
+    /**
+     * Cancel any pending asynchronous preparation, discarding its result
+     */
+    private void cancelPreparation() {
+        if (isPreparing()) {
+            preparationId++;
+            currentPhase = Phase.PREINIT;
+        }
+    }
+
+    /**
+     * Renders a placeholder while this Screen's elements are being prepared
+     *
+     * @param mouseX       The Event Mouse X Coordinate
+     * @param mouseY       The Event Mouse Y Coordinate
+     * @param partialTicks The Rendering Tick Rate
+     */
+    public void renderPlaceholder(int mouseX, int mouseY, float partialTicks) {
+        drawDefaultBackground();
+        renderTitles(getScreenTitle(), getScreenSubTitle());
+        renderCenteredString(
+                "Loading...",
+                getTop() + (getScreenHeight() / 2) - (getFontHeight() / 2),
+                0xFFFFFF
+        );
     }
 
     /**
@@ -305,10 +470,20 @@ public class ExtendedScreen extends GuiScreen {
             currentPhase = Phase.PREINIT;
             setContentHeight(0);
 
+            invalidateRetained();
             buttonList.clear();
             extendedControls.clear();
             extendedWidgets.clear();
             extendedLists.clear();
+            extendedTextControls.clear();
+            childScreens.clear();
+            registeredControls.clear();
+            registeredWidgets.clear();
+            registeredLists.clear();
+            widgetGrid.clear();
+            hoveredWidgets.clear();
+            unindexedButtons.clear();
+            pressedButton = null;
         }
     }
 
@@ -329,10 +504,9 @@ public class ExtendedScreen extends GuiScreen {
             resetMouseScroll();
             constructElements();
 
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.initializeUi();
-                }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.initializeUi();
             }
 
             appendElements();
@@ -374,11 +548,11 @@ public class ExtendedScreen extends GuiScreen {
      */
     @Override
     public void onResize(@Nonnull Minecraft mcIn, int w, int h) {
+        invalidateRetained();
         if (isLoaded()) {
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.onResize(mcIn, w, h);
-                }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.onResize(mcIn, w, h);
             }
         }
         super.onResize(mcIn, w, h);
@@ -399,6 +573,10 @@ public class ExtendedScreen extends GuiScreen {
 
     /**
      * Adds a Compatible Control to this Screen with specified type
+     * <p>
+     * Buttons must only enter the button list through this method, or {@link ExtendedScreen#addButton(GuiButton)},
+     * as membership is tracked by the control registry rather than by scanning the button list.
+     * A button already within the button list is not added to it again.
      *
      * @param buttonIn The Control to add to this Screen
      * @param <T>      The Control's Class Type
@@ -410,18 +588,100 @@ public class ExtendedScreen extends GuiScreen {
             throw new IllegalStateException("Can't add control to control list");
         }
 
-        if (buttonIn instanceof DynamicWidget widget && !extendedWidgets.contains(buttonIn)) {
-            addWidget(widget);
-        }
-        if (buttonIn instanceof GuiButton button && !buttonList.contains(buttonIn)) {
-            buttonList.add(button);
-        }
-        if (!extendedControls.contains(buttonIn)) {
+        if (registeredControls.add(buttonIn)) {
+            if (buttonIn instanceof DynamicWidget widget) {
+                addWidget(widget);
+            }
+            if (buttonIn instanceof GuiButton button) {
+                if (!isLastButton(button)) {
+                    buttonList.add(button);
+                }
+            }
             extendedControls.add(buttonIn);
+            if (buttonIn instanceof ExtendedTextControl textField) {
+                extendedTextControls.add(textField);
+            }
+            if (buttonIn instanceof ExtendedScreen extendedScreen) {
+                childScreens.add(extendedScreen);
+            }
         }
         return buttonIn;
     }
 
+    /**
+     * Retrieve whether the specified button is the last entry of the button list
+     * <p>
+     * This guards the common case of a button being added to the button list directly,
+     * and then registered through {@link ExtendedScreen#addControl(Gui)}, without scanning the list
+     *
+     * @param button The button to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private boolean isLastButton(final GuiButton button) {
+        return !buttonList.isEmpty() && buttonList.get(buttonList.size() - 1) == button;
+    }
+
+    /**
+     * Event to trigger upon a button being placed into the button list
+     *
+     * @param button The button placed into the button list
+     */
+    private void onButtonInserted(final GuiButton button) {
+        if (!(button instanceof DynamicWidget widget) || !registeredWidgets.contains(widget)) {
+            unindexedButtons.add(button);
+        }
+    }
+
+    /**
+     * Retrieve whether every button within the button list is within the widget index
+     * <p>
+     * Membership is tracked by identity, as buttons may be placed into or removed from the button list directly
+     *
+     * @return {@link Boolean#TRUE} if mouse clicks can be dispatched from the widget index
+     */
+    private boolean isButtonListIndexed() {
+        if (buttonList != trackedButtons) {
+            return false;
+        }
+        if (!unindexedButtons.isEmpty()) {
+            unindexedButtons.removeIf(button -> registeredWidgets.contains(button) || !trackedButtons.contains(button));
+        }
+        return unindexedButtons.isEmpty();
+    }
+
+    /**
+     * Adds a collection of Compatible Controls to this Screen, in iteration order
+     * <p>
+     * The control registries are sized once for the whole collection
+     *
+     * @param controls The Controls to add to this Screen
+     */
+    public void addControls(@Nonnull final Collection<? extends Gui> controls) {
+        if (!canModifyControls()) {
+            throw new IllegalStateException("Can't add control to control list");
+        }
+
+        final int count = controls.size();
+        ensureCapacity(extendedControls, count);
+        ensureCapacity(extendedWidgets, count);
+        ensureCapacity(buttonList, count);
+        for (Gui control : controls) {
+            addControl(control);
+        }
+    }
+
+    /**
+     * Grow the specified list, if resizable, to hold the specified amount of additional elements
+     *
+     * @param list  The list to interpret
+     * @param count The amount of additional elements
+     */
+    private static void ensureCapacity(final List<?> list, final int count) {
+        if (list instanceof ArrayList<?> arrayList) {
+            arrayList.ensureCapacity(list.size() + count);
+        }
+    }
+
     /**
      * Adds a Compatible Scroll List to this Screen with specified type
      *
@@ -435,7 +695,7 @@ public class ExtendedScreen extends GuiScreen {
             throw new IllegalStateException("Can't add control to control list");
         }
 
-        if (!extendedLists.contains(buttonIn)) {
+        if (registeredLists.add(buttonIn)) {
             extendedLists.add(buttonIn);
         }
         return buttonIn;
@@ -454,9 +714,10 @@ public class ExtendedScreen extends GuiScreen {
             throw new IllegalStateException("Can't add control to control list");
         }
 
-        if (!extendedWidgets.contains(buttonIn)) {
+        if (registeredWidgets.add(buttonIn)) {
             buttonIn.setControlPosY(getTop() + buttonIn.getTop());
             extendedWidgets.add(buttonIn);
+            widgetGrid.add(buttonIn);
         }
         return buttonIn;
     }
@@ -467,12 +728,26 @@ public class ExtendedScreen extends GuiScreen {
      * Primarily used for rendering critical elements before other elements
      */
     public void renderCriticalData() {
+        final ScreenConstants.ColorData background = getScreenBackground();
+        if (isStaticBackground()) {
+            backgroundGeometry.validate(
+                    background,
+                    getLeft(), getRight(),
+                    getTop(), getBottom(),
+                    getOffset(), getTintFactor()
+            );
+            if (!RenderUtils.beginRetained(getGameInstance(), backgroundGeometry)) {
+                return;
+            }
+        }
+
         drawBackground(
                 getLeft(), getRight(),
                 getTop(), getBottom(),
                 getOffset(), getTintFactor(),
-                getScreenBackground()
+                background
         );
+        RenderUtils.endRetained(backgroundGeometry);
     }
 
     /**
@@ -495,8 +770,8 @@ public class ExtendedScreen extends GuiScreen {
                                final ScreenConstants.ColorData data) {
         // Setup Colors + Tint Data
         tintFactor = MathUtils.clamp(tintFactor, 0.0f, 1.0f);
-        final Color startColor = StringUtils.offsetColor(data.startColor(), tintFactor);
-        final Color endColor = StringUtils.offsetColor(data.endColor(), tintFactor);
+        final int startColor = data.startArgb(tintFactor);
+        final int endColor = data.endArgb(tintFactor);
 
         if (StringUtils.isNullOrEmpty(data.texLocation())) {
             RenderUtils.drawGradient(left, right, top, bottom,
@@ -586,6 +861,45 @@ public class ExtendedScreen extends GuiScreen {
         );
     }
 
+    /**
+     * Draws a Textured Rectangle, following the defined arguments
+     *
+     * @param left                 The Left Position of the Object
+     * @param right                The Right Position of the Object
+     * @param top                  The Top Position of the Object
+     * @param bottom               The Bottom Position of the Object
+     * @param zLevel               The Z Level Position of the Object
+     * @param asFullTexture        Whether to render as full-texture or color-only
+     * @param usingExternalTexture Whether we are using a non-local/external texture
+     * @param offset               The vertical offset to render the background to
+     * @param u                    The U Mapping Value
+     * @param v                    The V Mapping Value
+     * @param textureWidth         The Width of the Texture
+     * @param textureHeight        The Height of the Texture
+     * @param startColor           The starting packed ARGB texture color
+     * @param endColor             The ending packed ARGB texture color
+     * @param texLocation          The game texture to render the object as
+     */
+    public void drawTexture(final double left, final double right,
+                            final double top, final double bottom,
+                            final double zLevel, final boolean asFullTexture,
+                            final boolean usingExternalTexture, final double offset,
+                            final double u, final double v,
+                            final double textureWidth, final double textureHeight,
+                            final int startColor, final int endColor,
+                            final ResourceLocation texLocation) {
+        RenderUtils.drawTexture(getGameInstance(),
+                left, right, top, bottom,
+                zLevel, asFullTexture,
+                usingExternalTexture,
+                right - left, bottom - top,
+                u, v + offset,
+                textureWidth, textureHeight,
+                startColor, endColor,
+                texLocation
+        );
+    }
+
     /**
      * Draws a Textured Rectangle, following the defined arguments
      *
@@ -783,15 +1097,42 @@ public class ExtendedScreen extends GuiScreen {
         return 0.0D;
     }
 
+    /**
+     * Whether the background of this Screen is static, allowing its geometry to be retained between frames
+     * <p>
+     * Retained geometry is replayed until the background data, bounds, offset or tint change,
+     * and should not be used with animated background textures
+     *
+     * @return {@link Boolean#TRUE} if the background geometry can be retained
+     */
+    public boolean isStaticBackground() {
+        return false;
+    }
+
+    /**
+     * Discard any retained geometry, causing it to be recorded again upon the next render
+     */
+    public void invalidateRetained() {
+        backgroundGeometry.invalidate();
+        for (GuiButton button : buttonList) {
+            if (button instanceof ExtendedButtonControl control) {
+                control.invalidateRetained();
+            }
+        }
+    }
+
     /**
      * Preliminary Render Event, executes after drawBackground and before super event
      * <p>
      * Primarily used for preliminary element setup
      */
     public void preRender() {
-        for (DynamicWidget widget : getWidgets()) {
+        refreshHoveredWidgets(getMouseX(), getMouseY());
+        for (int i = 0; i < extendedWidgets.size(); i++) {
+            final DynamicWidget widget = extendedWidgets.get(i);
             widget.preDraw(this);
         }
+        applyLayout();
     }
 
     /**
@@ -801,8 +1142,11 @@ public class ExtendedScreen extends GuiScreen {
      */
     public void renderExtra() {
         renderStringData();
-        for (DynamicWidget widget : getWidgets()) {
-            widget.draw(this);
+        for (int i = 0; i < extendedWidgets.size(); i++) {
+            final DynamicWidget widget = extendedWidgets.get(i);
+            if (isWidgetVisible(widget)) {
+                widget.draw(this);
+            }
         }
     }
 
@@ -853,11 +1197,81 @@ public class ExtendedScreen extends GuiScreen {
      * Primarily used for rendering hover data
      */
     public void postRender() {
-        for (DynamicWidget widget : getWidgets()) {
-            widget.postDraw(this);
+        for (int i = 0; i < extendedWidgets.size(); i++) {
+            final DynamicWidget widget = extendedWidgets.get(i);
+            if (isWidgetVisible(widget)) {
+                widget.postDraw(this);
+            }
         }
     }
 
+    /**
+     * Refresh the widgets under the specified mouse position, re-indexing any widgets that have moved
+     *
+     * @param mouseX The Event Mouse X Coordinate
+     * @param mouseY The Event Mouse Y Coordinate
+     */
+    protected void refreshHoveredWidgets(final int mouseX, final int mouseY) {
+        widgetGrid.refresh();
+        widgetGrid.collectWidgetsAt(mouseX, mouseY, hoveredWidgets);
+    }
+
+    /**
+     * Retrieve the spatial index of this Screen's widgets
+     * <p>
+     * Moved widgets are re-indexed upon the next hit-test, though callers may pass a moved
+     * widget to {@link WidgetGrid#update(DynamicWidget)} to re-index it immediately
+     *
+     * @return the widget index
+     */
+    protected WidgetGrid getWidgetGrid() {
+        return widgetGrid;
+    }
+
+    /**
+     * Retrieve the widgets of this Screen whose bounds contain the specified point
+     *
+     * @param posX The X coordinate to interpret
+     * @param posY The Y coordinate to interpret
+     * @return the widgets containing the point, in the order they were added
+     */
+    public List<DynamicWidget> getWidgetsAt(final int posX, final int posY) {
+        widgetGrid.refresh();
+        return widgetGrid.getWidgetsAt(posX, posY);
+    }
+
+    /**
+     * Retrieve whether the specified widget was under the mouse, as of the last render or mouse event
+     *
+     * @param widget The widget to interpret
+     * @return {@link Boolean#TRUE} if the widget is under the mouse
+     */
+    public boolean isMouseOver(final DynamicWidget widget) {
+        return hoveredWidgets.contains(widget);
+    }
+
+    /**
+     * Determines if the specified widget is within the viewable area of this Screen
+     * <p>
+     * Widgets are skipped during rendering if they lie outside either the screen bounds or the active scissor area,
+     * unless {@link DynamicWidget#canCull()} is {@link Boolean#FALSE}
+     *
+     * @param widget The widget to interpret
+     * @return {@link Boolean#TRUE} if the widget should be rendered
+     */
+    public boolean isWidgetVisible(final DynamicWidget widget) {
+        if (!widget.canCull()) {
+            return true;
+        }
+        final int left = widget.getLeft();
+        final int top = widget.getTop();
+        final int right = widget.getRight();
+        final int bottom = widget.getBottom();
+        return left <= getRight() && right >= getLeft() &&
+                top <= getBottom() && bottom >= getTop() &&
+                RenderUtils.isWithinScissor(left, top, right, bottom);
+    }
+
     @Override
     public void drawWorldBackground(int tint) {
         renderCriticalData();
@@ -879,7 +1293,10 @@ public class ExtendedScreen extends GuiScreen {
             lastPartialTicks = partialTicks;
             isOverScreen = RenderUtils.isMouseOver(mouseX, mouseY, this);
 
+            final long frameStart = RenderStats.beginFrame();
+            long phaseStart = RenderStats.startTimer();
             preRender();
+            RenderStats.stopTimer(RenderStats.Timer.PRE_RENDER, phaseStart);
 
             RenderUtils.enableScissor(
                     getGameInstance(),
@@ -891,31 +1308,74 @@ public class ExtendedScreen extends GuiScreen {
 
             drawDefaultBackground();
 
-            for (GuiSlot listControl : getLists()) {
+            for (int i = 0; i < extendedLists.size(); i++) {
+                final GuiSlot listControl = extendedLists.get(i);
                 if (listControl.getEnabled()) {
                     listControl.drawScreen(mouseX, mouseY, partialTicks);
                 }
             }
 
-            super.drawScreen(mouseX, mouseY, partialTicks);
+            // Defer queued control labels until the control geometry is drawn, so that they are emitted in one pass
+            RenderUtils.beginTextBatch();
+            try {
+                renderButtons(mouseX, mouseY, partialTicks);
+            } finally {
+                RenderUtils.endTextBatch(getGameInstance());
+            }
 
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedTextControl textField) {
+            for (int i = 0; i < extendedTextControls.size(); i++) {
+                final ExtendedTextControl textField = extendedTextControls.get(i);
+                if (isWidgetVisible(textField)) {
                     textField.drawTextBox();
                 }
             }
 
+            phaseStart = RenderStats.startTimer();
             renderExtra();
+            RenderStats.stopTimer(RenderStats.Timer.RENDER_EXTRA, phaseStart);
 
             RenderUtils.disableScissor(getGameInstance());
 
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.drawScreen(mouseX, mouseY, partialTicks);
-                }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.drawScreen(mouseX, mouseY, partialTicks);
             }
 
+            phaseStart = RenderStats.startTimer();
             postRender();
+            RenderStats.stopTimer(RenderStats.Timer.POST_RENDER, phaseStart);
+
+            if (frameStart != 0L) {
+                RenderStats.endFrame(getClass().getName(), frameStart);
+            }
+        } else if (isPreparing()) {
+            renderPlaceholder(mouseX, mouseY, partialTicks);
+        }
+    }
+
+    /**
+     * Renders the buttons and labels of this Screen, skipping buttons outside the viewable area
+     * <p>
+     * Mirrors the control rendering performed by {@link GuiScreen#drawScreen(int, int, float)}
+     *
+     * @param mouseX       The Event Mouse X Coordinate
+     * @param mouseY       The Event Mouse Y Coordinate
+     * @param partialTicks The Rendering Tick Rate
+     */
+    protected void renderButtons(int mouseX, int mouseY, float partialTicks) {
+        for (int i = 0; i < buttonList.size(); ++i) {
+            final GuiButton button = buttonList.get(i);
+            if (button instanceof DynamicWidget widget && !isWidgetVisible(widget)) {
+                if (button instanceof ExtendedButtonControl extendedButton) {
+                    extendedButton.setHoveringOver(false);
+                }
+                continue;
+            }
+            button.drawButton(getGameInstance(), mouseX, mouseY, partialTicks);
+        }
+
+        for (int i = 0; i < labelList.size(); ++i) {
+            labelList.get(i).drawLabel(getGameInstance(), mouseX, mouseY);
         }
     }
 
@@ -926,7 +1386,8 @@ public class ExtendedScreen extends GuiScreen {
     public void handleMouseInput() {
         if (isLoaded()) {
             setMouseScroll(Mouse.getEventDWheel());
-            for (GuiSlot listControl : getLists()) {
+            for (int i = 0; i < extendedLists.size(); i++) {
+                final GuiSlot listControl = extendedLists.get(i);
                 listControl.handleMouseInput();
             }
 
@@ -947,10 +1408,9 @@ public class ExtendedScreen extends GuiScreen {
      */
     public void mouseScrolled(int mouseX, int mouseY, int wheelY) {
         if (isLoaded()) {
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.mouseScrolled(mouseX, mouseY, wheelY);
-                }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.mouseScrolled(mouseX, mouseY, wheelY);
             }
         }
     }
@@ -978,19 +1438,23 @@ public class ExtendedScreen extends GuiScreen {
      */
     @Override
     protected void keyTyped(char typedChar, int keyCode) {
+        if (isPreparing() && isCurrentScreen() && isEscapeKey(keyCode) && canClose()) {
+            openScreen(getParent());
+            return;
+        }
         if (isLoaded()) {
             if (isCurrentScreen() && isEscapeKey(keyCode) && canClose()) {
                 openScreen(getParent());
                 return;
             }
 
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedTextControl textField) {
-                    textField.textboxKeyTyped(typedChar, keyCode);
-                }
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.keyTyped(typedChar, keyCode);
-                }
+            for (int i = 0; i < extendedTextControls.size(); i++) {
+                final ExtendedTextControl textField = extendedTextControls.get(i);
+                textField.textboxKeyTyped(typedChar, keyCode);
+            }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.keyTyped(typedChar, keyCode);
             }
         }
     }
@@ -1005,25 +1469,54 @@ public class ExtendedScreen extends GuiScreen {
     @Override
     protected void mouseClicked(int mouseX, int mouseY, int mouseButton) {
         if (isLoaded()) {
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedTextControl textField) {
-                    textField.mouseClicked(mouseX, mouseY, mouseButton);
-                }
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.mouseClicked(mouseX, mouseY, mouseButton);
-                }
+            refreshHoveredWidgets(mouseX, mouseY);
+            for (int i = 0; i < extendedTextControls.size(); i++) {
+                final ExtendedTextControl textField = extendedTextControls.get(i);
+                textField.mouseClicked(mouseX, mouseY, mouseButton);
+            }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.mouseClicked(mouseX, mouseY, mouseButton);
+            }
+            if (isButtonListIndexed()) {
+                dispatchButtonClick(mouseX, mouseY, mouseButton);
+            } else {
+                super.mouseClicked(mouseX, mouseY, mouseButton);
+            }
+        }
+    }
+
+    /**
+     * Dispatch a mouse click to the buttons under the mouse, as resolved by the widget index
+     * <p>
+     * This replaces the vanilla loop over the whole button list, and is only used
+     * while every button within the button list is within the widget index.
+     * Widgets removed from the button list directly are skipped.
+     *
+     * @param mouseX      The Event Mouse X Coordinate
+     * @param mouseY      The Event Mouse Y Coordinate
+     * @param mouseButton The Event Mouse Button Clicked
+     */
+    private void dispatchButtonClick(final int mouseX, final int mouseY, final int mouseButton) {
+        if (mouseButton != 0) {
+            return;
+        }
+        for (int i = 0; i < hoveredWidgets.size(); i++) {
+            if (hoveredWidgets.get(i) instanceof GuiButton button && trackedButtons.contains(button) &&
+                    button.mousePressed(getGameInstance(), mouseX, mouseY)) {
+                pressedButton = button;
+                button.playPressSound(getGameInstance().getSoundHandler());
+                actionPerformed(button);
             }
-            super.mouseClicked(mouseX, mouseY, mouseButton);
         }
     }
 
     @Override
     protected void mouseClickMove(int mouseX, int mouseY, int mouseButton, long timeSinceLastClick) {
         if (isLoaded()) {
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.mouseClickMove(mouseX, mouseY, mouseButton, timeSinceLastClick);
-                }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.mouseClickMove(mouseX, mouseY, mouseButton, timeSinceLastClick);
             }
             super.mouseClickMove(mouseX, mouseY, mouseButton, timeSinceLastClick);
         }
@@ -1032,10 +1525,13 @@ public class ExtendedScreen extends GuiScreen {
     @Override
     protected void mouseReleased(int mouseX, int mouseY, int state) {
         if (isLoaded()) {
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.mouseReleased(mouseX, mouseY, state);
-                }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.mouseReleased(mouseX, mouseY, state);
+            }
+            if (pressedButton != null && state == 0) {
+                pressedButton.mouseReleased(mouseX, mouseY);
+                pressedButton = null;
             }
             super.mouseReleased(mouseX, mouseY, state);
         }
@@ -1047,13 +1543,13 @@ public class ExtendedScreen extends GuiScreen {
     @Override
     public void updateScreen() {
         if (isLoaded()) {
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedTextControl textField) {
-                    textField.updateCursorCounter();
-                }
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.updateScreen();
-                }
+            for (int i = 0; i < extendedTextControls.size(); i++) {
+                final ExtendedTextControl textField = extendedTextControls.get(i);
+                textField.updateCursorCounter();
+            }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.updateScreen();
             }
             super.updateScreen();
         }
@@ -1064,16 +1560,17 @@ public class ExtendedScreen extends GuiScreen {
      */
     @Override
     public void onGuiClosed() {
+        cancelPreparation();
         if (isLoaded()) {
-            for (Gui extendedControl : getControls()) {
-                if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                    extendedScreen.onGuiClosed();
-                }
+            for (int i = 0; i < childScreens.size(); i++) {
+                final ExtendedScreen extendedScreen = childScreens.get(i);
+                extendedScreen.onGuiClosed();
             }
             clearData();
             resetIndex();
-            enableRepeatEvents(false);
+            invalidateRetained();
         }
+        enableRepeatEvents(false);
     }
 
     /**
@@ -1206,6 +1703,31 @@ public class ExtendedScreen extends GuiScreen {
         );
     }
 
+    /**
+     * Renders a pre-measured Multi-Line String, constrained by position and dimension arguments
+     *
+     * @param layout       The unwrapped layout of the Multi-Line String
+     * @param posX         The starting X position to render the String
+     * @param posY         The starting Y position to render the String
+     * @param maxWidth     The maximum width to allow rendering to (Text will wrap if output is greater)
+     * @param maxHeight    The maximum height to allow rendering to (Text will wrap if output is greater)
+     * @param maxTextWidth The maximum width the output can be before wrapping
+     * @param isCentered   Whether to render the text in a center-styled layout (Disabled if maxWidth is not specified)
+     * @param isTooltip    Whether to render this layout in a tooltip-style (Issues may occur if combined with isCentered)
+     */
+    public void drawMultiLineString(final TooltipLayout layout, final int posX, final int posY, final int maxWidth, final int maxHeight, final int maxTextWidth, final boolean isCentered, final boolean isTooltip) {
+        RenderUtils.drawMultiLineString(
+                getGameInstance(),
+                layout,
+                posX, posY,
+                maxWidth, maxHeight,
+                maxTextWidth,
+                getFontRenderer(),
+                isCentered, isTooltip,
+                getTooltipData(isTooltip)
+        );
+    }
+
     /**
      * Renders a Specified Multi-Line String, constrained by position and dimension arguments
      *
@@ -1646,18 +2168,47 @@ public class ExtendedScreen extends GuiScreen {
      * Refresh the Content Height of all applicable widgets
      */
     public void refreshContentHeight() {
+        layoutDirty = false;
         setContentHeight(0);
-        for (DynamicWidget widget : getWidgets()) {
+        for (int i = 0; i < extendedWidgets.size(); i++) {
+            final DynamicWidget widget = extendedWidgets.get(i);
             final int widgetHeight = widget.getBottom();
             if (widgetHeight > getContentHeight()) {
                 setContentHeight(widgetHeight);
             }
         }
 
-        for (Gui extendedControl : getControls()) {
-            if (extendedControl instanceof ExtendedScreen extendedScreen) {
-                extendedScreen.refreshContentHeight();
-            }
+        for (int i = 0; i < childScreens.size(); i++) {
+            final ExtendedScreen extendedScreen = childScreens.get(i);
+            extendedScreen.refreshContentHeight();
+        }
+    }
+
+    /**
+     * Mark the layout of this Screen as changed, deferring the content height refresh
+     * <p>
+     * Widgets call this after changing their bounds, so that any number of changes within a frame
+     * result in a single refresh during {@link ExtendedScreen#preRender()}
+     */
+    public void invalidateLayout() {
+        layoutDirty = true;
+    }
+
+    /**
+     * Retrieve whether the layout of this Screen has changed since the content height was last refreshed
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isLayoutDirty() {
+        return layoutDirty;
+    }
+
+    /**
+     * Refresh the content height of this Screen, if its layout has changed
+     */
+    public void applyLayout() {
+        if (isLayoutDirty()) {
+            refreshContentHeight();
         }
     }
 
@@ -1805,6 +2356,28 @@ public class ExtendedScreen extends GuiScreen {
         return StringUtils.newArrayList(extendedControls);
     }
 
+    /**
+     * Retrieve the list of text controls in this Screen
+     * <p>
+     * This returns a copy, so event dispatch iterates the backing list directly instead
+     *
+     * @return the list of text controls in this Screen
+     */
+    public List<ExtendedTextControl> getTextControls() {
+        return StringUtils.newArrayList(extendedTextControls);
+    }
+
+    /**
+     * Retrieve the list of child screens in this Screen
+     * <p>
+     * This returns a copy, so event dispatch iterates the backing list directly instead
+     *
+     * @return the list of child screens in this Screen
+     */
+    public List<ExtendedScreen> getChildScreens() {
+        return StringUtils.newArrayList(childScreens);
+    }
+
     /**
      * Retrieve the list of compatible widgets in this Screen
      *
@@ -1850,6 +2423,15 @@ public class ExtendedScreen extends GuiScreen {
         return currentPhase == Phase.PREINIT;
     }
 
+    /**
+     * Gets whether the Screen is preparing its elements asynchronously
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isPreparing() {
+        return currentPhase == Phase.PREPARING;
+    }
+
     /**
      * Constants representing various Screen Phase statuses
      */
@@ -1862,6 +2444,10 @@ public class ExtendedScreen extends GuiScreen {
          * Defines that the Screen has completed initial construction and data preparation
          */
         INIT,
+        /**
+         * Defines that the Screen is preparing its elements asynchronously, and is rendering a placeholder
+         */
+        PREPARING,
         /**
          * Defines that the Screen is fully ready for use
          */
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui.integrations;
+
+import com.gitlab.cdagaming.unilib.core.impl.screen.RenderStats;
+import com.gitlab.cdagaming.unilib.core.impl.screen.ScreenConstants;
+
+/**
+ * Implementation for a Screen Pane displaying the render statistics of the last completed frame
+ * <p>
+ * Statistics are gathered while this pane is displayed, and are reported for the outermost
+ * screen being rendered, including this pane and any other nested screens.
+ *
+ * @author CDAGaming
+ */
+public class RenderStatsPane extends ExtendedScreen {
+    /**
+     * The translucent background used by this pane
+     */
+    private static final ScreenConstants.ColorData DEFAULT_BACKGROUND = new ScreenConstants.ColorData(
+            new ScreenConstants.ColorSection(0, 0, 0, 160)
+    );
+    /**
+     * The padding between the pane bounds and the displayed statistics
+     */
+    private static final int PADDING = 2;
+    /**
+     * The color used for the displayed statistics
+     */
+    private static final int TEXT_COLOR = 0xFFFFFF;
+    /**
+     * The timers to display, cached to avoid copying the enum values each frame
+     */
+    private static final RenderStats.Timer[] TIMERS = RenderStats.Timer.values();
+    /**
+     * The counters to display, cached to avoid copying the enum values each frame
+     */
+    private static final RenderStats.Counter[] COUNTERS = RenderStats.Counter.values();
+    /**
+     * The reusable builder for each displayed statistic
+     */
+    private final StringBuilder lineBuilder = new StringBuilder();
+    /**
+     * Whether this pane enabled statistic gathering, and should disable it upon closing
+     */
+    private boolean enabledStats = false;
+
+    /**
+     * Initialization Event for this Control, assigning defined arguments
+     *
+     * @param startX The starting X position of the widget
+     * @param startY The starting Y position of the widget
+     * @param width  The width of the widget
+     * @param height The height of the widget
+     */
+    public RenderStatsPane(final int startX, final int startY, final int width, final int height) {
+        super();
+        setScreenX(startX);
+        setScreenY(startY);
+        setScreenWidth(width);
+        setScreenHeight(height);
+    }
+
+    @Override
+    public void preRender() {
+        if (!RenderStats.isEnabled()) {
+            RenderStats.setEnabled(true);
+            enabledStats = true;
+        }
+        super.preRender();
+    }
+
+    @Override
+    public void renderStringData() {
+        super.renderStringData();
+
+        final int left = getLeft() + PADDING;
+        final int lineHeight = getFontHeight() + 1;
+        int top = getTop() + PADDING;
+        for (RenderStats.Timer timer : TIMERS) {
+            lineBuilder.setLength(0);
+            lineBuilder.append(timer.name()).append(": ");
+            appendMillis(RenderStats.getTimeMillis(timer));
+            renderString(lineBuilder.toString(), left, top, TEXT_COLOR);
+            top += lineHeight;
+        }
+        for (RenderStats.Counter counter : COUNTERS) {
+            lineBuilder.setLength(0);
+            lineBuilder.append(counter.name()).append(": ").append(RenderStats.getCount(counter));
+            renderString(lineBuilder.toString(), left, top, TEXT_COLOR);
+            top += lineHeight;
+        }
+    }
+
+    /**
+     * Append the specified duration to the line builder, to three decimal places
+     *
+     * @param millis The duration, in milliseconds
+     */
+    private void appendMillis(final double millis) {
+        final long micros = Math.round(millis * 1000.0D);
+        final long fraction = micros % 1000;
+        lineBuilder.append(micros / 1000).append('.');
+        if (fraction < 100) lineBuilder.append('0');
+        if (fraction < 10) lineBuilder.append('0');
+        lineBuilder.append(fraction).append(" ms");
+    }
+
+    @Override
+    public void onGuiClosed() {
+        if (enabledStats) {
+            RenderStats.setEnabled(false);
+            enabledStats = false;
+        }
+        super.onGuiClosed();
+    }
+
+    @Override
+    public ScreenConstants.ColorData getScreenBackground() {
+        return DEFAULT_BACKGROUND;
+    }
+}
@@ -25,6 +25,8 @@
 package com.gitlab.cdagaming.unilib.utils.gui.integrations;
 
 import com.gitlab.cdagaming.unilib.core.impl.screen.ScreenConstants;
+import com.gitlab.cdagaming.unilib.utils.gui.RenderUtils;
+import com.gitlab.cdagaming.unilib.utils.gui.RetainedGeometry;
 import com.gitlab.cdagaming.unilib.utils.gui.widgets.DynamicWidget;
 import io.github.cdagaming.unicore.utils.MathUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
@@ -48,9 +50,14 @@ public class ScrollPane extends ExtendedScreen {
     private final ScreenConstants.ColorData DEFAULT_SCROLLBAR_BACKGROUND;
     private final ScreenConstants.ColorData DEFAULT_SCROLLBAR_BORDER;
     private final ScreenConstants.ColorData DEFAULT_SCROLLBAR_FOREGROUND;
+    private final RetainedGeometry headerGeometry = new RetainedGeometry();
+    private final RetainedGeometry footerGeometry = new RetainedGeometry();
     private boolean clickedScrollbar;
     private int padding;
     private float amountScrolled = 0.0F;
+    private int appliedScroll = 0;
+    private int cachedContentHeight = -1, cachedBottom, cachedScreenHeight, cachedPadding;
+    private int cachedMaxScroll, cachedBarHeight;
     // remove in 1.13+
     private int mousePrevX = 0;
     // remove in 1.13+
@@ -145,13 +152,14 @@ public class ScrollPane extends ExtendedScreen {
     public void resetMouseScroll() {
         super.resetMouseScroll();
         setScroll(getMouseScroll());
+        applyScroll();
     }
 
     @Override
     public void refreshContentHeight() {
         super.refreshContentHeight();
 
-        setContentHeight((int) (getContentHeight() + getAmountScrolled()));
+        setContentHeight(getContentHeight() + appliedScroll);
     }
 
     @Override
@@ -164,6 +172,18 @@ public class ScrollPane extends ExtendedScreen {
         return 0.5f;
     }
 
+    @Override
+    public boolean isStaticBackground() {
+        return true;
+    }
+
+    @Override
+    public void invalidateRetained() {
+        super.invalidateRetained();
+        headerGeometry.invalidate();
+        footerGeometry.invalidate();
+    }
+
     /**
      * Retrieve the top-most coordinate for the header decoration
      *
@@ -267,18 +287,34 @@ public class ScrollPane extends ExtendedScreen {
      * Render the List Separators (Depth Decorations)
      */
     protected void renderListSeparators() {
+        renderListSeparator(headerGeometry, getHeaderTop(), getHeaderBottom(), getHeaderBackground());
+        renderListSeparator(footerGeometry, getFooterTop(), getFooterBottom(), getFooterBackground());
+    }
+
+    /**
+     * Render a List Separator, retaining its geometry if this Screen has a static background
+     *
+     * @param geometry   The geometry to replay or record the separator into
+     * @param top        The Top Position of the Separator
+     * @param bottom     The Bottom Position of the Separator
+     * @param background The rendering info for the Separator
+     */
+    private void renderListSeparator(final RetainedGeometry geometry, final int top, final int bottom,
+                                     final ScreenConstants.ColorData background) {
+        if (isStaticBackground()) {
+            geometry.validate(background, getLeft(), getRight(), top, bottom);
+            if (!RenderUtils.beginRetained(getGameInstance(), geometry)) {
+                return;
+            }
+        }
+
         drawBackground(
-                getLeft(), getRight(), getHeaderTop(), getHeaderBottom(),
-                0.0D, 1.0F,
-                0.0D, 0.0D,
-                getHeaderBackground()
-        );
-        drawBackground(
-                getLeft(), getRight(), getFooterTop(), getFooterBottom(),
+                getLeft(), getRight(), top, bottom,
                 0.0D, 1.0F,
                 0.0D, 0.0D,
-                getFooterBackground()
+                background
         );
+        RenderUtils.endRetained(geometry);
     }
 
     /**
@@ -296,27 +332,52 @@ public class ScrollPane extends ExtendedScreen {
             final int barTop = Math.max((int) getAmountScrolled() * (screenHeight - height) / maxScroll + top, top);
             final int barBottom = barTop + height;
 
-            drawBackground(
-                    scrollBarX, scrollBarRight, top, bottom,
-                    0.0D, 1.0F,
-                    0.0D, 0.0D,
-                    getScrollbarBackground()
-            );
-            drawBackground(
-                    scrollBarX, scrollBarRight, barTop, barBottom,
-                    0.0D, 1.0F,
-                    0.0D, 0.0D,
-                    getScrollbarBorder()
-            );
-            drawBackground(
-                    scrollBarX, scrollBarRight - 1, barTop, barBottom - 1,
-                    0.0D, 1.0F,
-                    0.0D, 0.0D,
-                    getScrollbarForeground()
-            );
+            final ScreenConstants.ColorData background = getScrollbarBackground();
+            final ScreenConstants.ColorData border = getScrollbarBorder();
+            final ScreenConstants.ColorData foreground = getScrollbarForeground();
+            final double zLevel = background.renderLevel();
+
+            if (background.isColorOnly() && border.isColorOnly() && foreground.isColorOnly() &&
+                    border.renderLevel() == zLevel && foreground.renderLevel() == zLevel) {
+                RenderUtils.drawScrollbar(
+                        scrollBarX, scrollBarRight, top, bottom,
+                        barTop, barBottom,
+                        zLevel,
+                        background.startArgb(), background.endArgb(),
+                        border.startArgb(), border.endArgb(),
+                        foreground.startArgb(), foreground.endArgb()
+                );
+            } else {
+                drawBackground(
+                        scrollBarX, scrollBarRight, top, bottom,
+                        0.0D, 1.0F,
+                        0.0D, 0.0D,
+                        background
+                );
+                drawBackground(
+                        scrollBarX, scrollBarRight, barTop, barBottom,
+                        0.0D, 1.0F,
+                        0.0D, 0.0D,
+                        border
+                );
+                drawBackground(
+                        scrollBarX, scrollBarRight - 1, barTop, barBottom - 1,
+                        0.0D, 1.0F,
+                        0.0D, 0.0D,
+                        foreground
+                );
+            }
         }
     }
 
+    @Override
+    public void drawScreen(int mouseX, int mouseY, float partialTicks) {
+        if (isLoaded()) {
+            applyScroll();
+        }
+        super.drawScreen(mouseX, mouseY, partialTicks);
+    }
+
     @Override
     public void postRender() {
         renderListSeparators();
@@ -339,6 +400,7 @@ public class ScrollPane extends ExtendedScreen {
     @Override
     protected void mouseClicked(int mouseX, int mouseY, int mouseButton) {
         if (isLoaded()) {
+            applyScroll();
             checkScrollbarClick(mouseX, mouseY, mouseButton);
             mousePrevX = mouseX;
             mousePrevY = mouseY;
@@ -352,6 +414,7 @@ public class ScrollPane extends ExtendedScreen {
     protected void mouseReleased(int mouseX, int mouseY, int mouseButton) {
         setScrolling(false);
         if (isLoaded()) {
+            applyScroll();
             super.mouseReleased(mouseX, mouseY, mouseButton);
         }
     }
@@ -363,6 +426,7 @@ public class ScrollPane extends ExtendedScreen {
             mouseDragged(mouseX, mouseY, mouseButton, mouseX - mousePrevX, mouseY - mousePrevY);
             mousePrevX = mouseX;
             mousePrevY = mouseY;
+            applyScroll();
 
             super.mouseClickMove(mouseX, mouseY, mouseButton, timeSinceLastClick);
         }
@@ -444,19 +508,32 @@ public class ScrollPane extends ExtendedScreen {
 
     /**
      * Set the scroll to the specified amount
+     * <p>
+     * Widgets are moved to match the new scroll amount upon the next render or mouse event
      *
      * @param amount the new scroll amount
      */
     public void setScroll(final float amount) {
-        final float prevScrollAmount = getAmountScrolled();
         setAmountScrolled(amount);
         bindAmountScrolled();
+    }
 
-        if (getAmountScrolled() != prevScrollAmount) {
-            final int scrollDiff = (int) (getAmountScrolled() - prevScrollAmount);
+    /**
+     * Move the widgets of this pane to match the current scroll amount, if it has changed
+     * <p>
+     * Widgets are offset by the whole-pixel scroll amount that was last applied, so
+     * any number of scroll events between frames costs a single pass over the widgets.
+     * The widget index records the move as a query offset, rather than re-indexing every widget.
+     */
+    public void applyScroll() {
+        final int scroll = (int) getAmountScrolled();
+        if (scroll != appliedScroll) {
+            final int scrollDiff = scroll - appliedScroll;
             for (DynamicWidget widget : getWidgets()) {
                 widget.setControlPosY(widget.getControlPosY() - scrollDiff);
             }
+            getWidgetGrid().translate(0, -scrollDiff);
+            appliedScroll = scroll;
         }
     }
 
@@ -533,7 +610,8 @@ public class ScrollPane extends ExtendedScreen {
      * @return the maximum scroll height
      */
     public int getMaxScroll() {
-        return Math.max(0, getContentHeight() - (getBottom() - getPadding()));
+        refreshScrollMetrics();
+        return cachedMaxScroll;
     }
 
     /**
@@ -543,8 +621,29 @@ public class ScrollPane extends ExtendedScreen {
      */
     public int getBarHeight() {
         if (!needsScrollbar()) return 0;
-        final int barHeight = (getScreenHeight() * getScreenHeight()) / getContentHeight();
-        return MathUtils.clamp(barHeight, 32, getScreenHeight() - (getPadding() * 2));
+        refreshScrollMetrics();
+        return cachedBarHeight;
+    }
+
+    /**
+     * Recalculate the scroll limit and scrollbar height, if the content height or pane size has changed
+     */
+    private void refreshScrollMetrics() {
+        final int contentHeight = getContentHeight();
+        final int bottom = getBottom();
+        final int screenHeight = getScreenHeight();
+        final int padding = getPadding();
+        if (contentHeight != cachedContentHeight || bottom != cachedBottom ||
+                screenHeight != cachedScreenHeight || padding != cachedPadding) {
+            cachedContentHeight = contentHeight;
+            cachedBottom = bottom;
+            cachedScreenHeight = screenHeight;
+            cachedPadding = padding;
+
+            cachedMaxScroll = Math.max(0, contentHeight - (bottom - padding));
+            cachedBarHeight = contentHeight > 0 ?
+                    MathUtils.clamp((screenHeight * screenHeight) / contentHeight, 32, screenHeight - (padding * 2)) : 0;
+        }
     }
 
     /**
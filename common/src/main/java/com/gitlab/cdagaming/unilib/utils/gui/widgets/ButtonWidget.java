@@ -210,6 +210,14 @@ public class ButtonWidget extends ExtendedButtonControl {
         }
     }
 
+    /**
+     * This widget draws the stock chrome, so its geometry can be retained
+     */
+    @Override
+    protected boolean isStaticChrome() {
+        return getClass() == ButtonWidget.class;
+    }
+
     @Override
     public void preDraw(ExtendedScreen screen) {
         // Ensure correct positioning
@@ -219,6 +227,7 @@ public class ButtonWidget extends ExtendedButtonControl {
             titleLeft = middle - 180; // Left; Title Text (Offset: +3)
             titleRight = middle - 6; // Left; Button (Offset: -6)
             setDimensions = true;
+            screen.invalidateLayout();
         }
         super.preDraw(screen);
     }
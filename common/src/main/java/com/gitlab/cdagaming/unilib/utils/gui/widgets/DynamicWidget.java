@@ -55,6 +55,17 @@ public interface DynamicWidget {
      */
     void postDraw(final ExtendedScreen screen);
 
+    /**
+     * Whether this Control can be skipped during rendering while outside the viewable area
+     * <p>
+     * Controls that render content outside their own bounds should return {@link Boolean#FALSE}
+     *
+     * @return {@link Boolean#TRUE} if this Control can be culled
+     */
+    default boolean canCull() {
+        return true;
+    }
+
     /**
      * Get the left-most coordinate for this Control
      *
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui.widgets;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Represents a value that notifies its listeners whenever it changes
+ * <p>
+ * Listeners are only notified when the new value differs from the current value,
+ * allowing controls to be bound to a value without being updated each frame.
+ *
+ * @param <T> The value type
+ * @author CDAGaming
+ */
+public class ObservableValue<T> {
+    /**
+     * The shared empty listener array
+     */
+    private static final Consumer<?>[] NO_LISTENERS = new Consumer<?>[0];
+    /**
+     * The listeners to notify upon the value changing
+     * <p>
+     * The array is replaced rather than modified, so notifying listeners needs no copy,
+     * and listeners may add or remove listeners while being notified
+     */
+    private volatile Consumer<?>[] listeners = NO_LISTENERS;
+    /**
+     * The current value
+     */
+    private T value;
+
+    /**
+     * Initializes a new observable value
+     *
+     * @param value The initial value
+     */
+    public ObservableValue(final T value) {
+        this.value = value;
+    }
+
+    /**
+     * Initializes a new observable value, with no initial value
+     */
+    public ObservableValue() {
+        this(null);
+    }
+
+    /**
+     * Retrieve the current value
+     *
+     * @return the current value
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Set the current value, notifying listeners if it has changed
+     *
+     * @param value The new value
+     * @return {@link Boolean#TRUE} if the value has changed
+     */
+    @SuppressWarnings("unchecked")
+    public boolean set(final T value) {
+        if (Objects.equals(this.value, value)) {
+            return false;
+        }
+        this.value = value;
+        for (Consumer<?> listener : listeners) {
+            ((Consumer<? super T>) listener).accept(value);
+        }
+        return true;
+    }
+
+    /**
+     * Add a listener, to be notified upon the value changing
+     *
+     * @param listener The listener to interpret
+     */
+    public synchronized void addListener(final Consumer<? super T> listener) {
+        final Consumer<?>[] current = listeners;
+        final Consumer<?>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Remove a previously added listener
+     *
+     * @param listener The listener to interpret
+     * @return {@link Boolean#TRUE} if the listener was removed
+     */
+    public synchronized boolean removeListener(final Consumer<? super T> listener) {
+        final Consumer<?>[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (Objects.equals(current[i], listener)) {
+                if (current.length == 1) {
+                    listeners = NO_LISTENERS;
+                } else {
+                    final Consumer<?>[] updated = new Consumer<?>[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    listeners = updated;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bind the specified target to this value, supplying it the current value and any later changes
+     *
+     * @param target The target to interpret
+     */
+    public void bind(final Consumer<? super T> target) {
+        target.accept(value);
+        addListener(target);
+    }
+
+    /**
+     * Create a new value derived from this value, updated whenever this value changes
+     *
+     * @param mapper The function to derive the new value with
+     * @param <R>    The derived value type
+     * @return the derived value
+     */
+    public <R> ObservableValue<R> map(final Function<? super T, ? extends R> mapper) {
+        final ObservableValue<R> result = new ObservableValue<>(mapper.apply(value));
+        addListener(newValue -> result.set(mapper.apply(newValue)));
+        return result;
+    }
+}
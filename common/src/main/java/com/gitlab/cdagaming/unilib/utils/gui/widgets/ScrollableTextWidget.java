@@ -36,6 +36,10 @@ import java.util.List;
  * @author CDAGaming
  */
 public class ScrollableTextWidget extends TextDisplayWidget {
+    /**
+     * The rendered width of the message, measured when the content is refreshed
+     */
+    private int messageWidth;
 
     /**
      * Initialization Event for this Control, assigning defined arguments
@@ -139,7 +143,7 @@ public class ScrollableTextWidget extends TextDisplayWidget {
         if (isCentered()) {
             centerX = maxX - ((maxX - minX) / 2);
         } else {
-            centerX = minX + (screen.getStringWidth(getMessage()) / 2);
+            centerX = minX + (messageWidth / 2);
         }
         screen.renderScrollingString(
                 getMessage(),
@@ -154,6 +158,7 @@ public class ScrollableTextWidget extends TextDisplayWidget {
 
     @Override
     public List<String> refreshContent(final ExtendedScreen screen) {
+        messageWidth = screen.getStringWidth(getMessage());
         return null;
     }
 
@@ -24,12 +24,16 @@
 
 package com.gitlab.cdagaming.unilib.utils.gui.widgets;
 
+import com.gitlab.cdagaming.unilib.core.impl.screen.GlyphWidthTable;
+import com.gitlab.cdagaming.unilib.core.impl.screen.TooltipLayout;
+import com.gitlab.cdagaming.unilib.utils.gui.RenderUtils;
 import com.gitlab.cdagaming.unilib.utils.gui.integrations.ExtendedScreen;
 import com.gitlab.cdagaming.unilib.utils.gui.integrations.ScrollPane;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.github.cdagaming.unicore.utils.MathUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -67,7 +71,19 @@ public class TextDisplayWidget implements DynamicWidget {
     /**
      * The multi-lined version of the interpreting message
      */
-    private List<String> renderLines;
+    private List<String> renderLines = Collections.emptyList();
+    /**
+     * The measured layout of the render lines, if any
+     */
+    private TooltipLayout renderLayout;
+    /**
+     * The width the render lines were last wrapped to
+     */
+    private int wrapWidth = -1;
+    /**
+     * The glyph widths the render lines were last measured with
+     */
+    private GlyphWidthTable glyphWidths;
     /**
      * Whether the text should be center-aligned
      */
@@ -218,23 +234,44 @@ public class TextDisplayWidget implements DynamicWidget {
         return StringUtils.newArrayList(renderLines);
     }
 
+    /**
+     * Retrieve whether the render content must be refreshed before drawing
+     * <p>
+     * Content is refreshed when the message, the wrap width, or the font measurements have changed
+     *
+     * @param screen The Screen instance we're rendering to
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    protected boolean isContentOutdated(final ExtendedScreen screen) {
+        return needsUpdate || (getMessage() != null && (wrapWidth != getWrapWidth(screen) ||
+                glyphWidths != RenderUtils.getGlyphWidths(screen.getFontRenderer())));
+    }
+
     @Override
     public void preDraw(ExtendedScreen screen) {
-        if (needsUpdate) {
-            renderLines = refreshContent(screen);
+        if (isContentOutdated(screen)) {
+            wrapWidth = getWrapWidth(screen);
+            glyphWidths = RenderUtils.getGlyphWidths(screen.getFontRenderer());
+            final List<String> content = refreshContent(screen);
+            renderLines = content != null ? List.copyOf(content) : Collections.emptyList();
+            renderLayout = !renderLines.isEmpty() ?
+                    TooltipLayout.create(glyphWidths, renderLines, -1, RenderUtils::getStyledText) : null;
             needsUpdate = false;
         }
     }
 
     @Override
     public void draw(ExtendedScreen screen) {
+        if (renderLayout == null) {
+            return;
+        }
         int padding = 0, barWidth = 0;
         if (screen instanceof ScrollPane pane) {
             padding = pane.getPadding();
             barWidth = pane.getScrollBarWidth();
         }
         screen.drawMultiLineString(
-                getRenderLines(),
+                renderLayout,
                 getControlPosX() + padding, getControlPosY() + padding,
                 getControlWidth() - padding - barWidth, -1, -1,
                 isCentered(), false
@@ -293,21 +330,29 @@ public class TextDisplayWidget implements DynamicWidget {
      * @return the modified render lines for the widget
      */
     public List<String> refreshContent(final ExtendedScreen screen) {
-        int padding = 0, barWidth = 0;
-        if (screen instanceof ScrollPane pane) {
-            padding = pane.getPadding();
-            barWidth = pane.getScrollBarWidth();
-        }
-
-        final int width = MathUtils.clamp((getControlWidth() - getControlPosX()) - (padding * 2) - barWidth, 0, screen.getMaxWidth());
         final List<String> content = screen.createRenderLines(
                 getMessage(),
-                width
+                getWrapWidth(screen)
         );
         final int height = content.size() * (screen.getFontHeight() + 1);
         setControlHeight(height + 2);
 
-        screen.refreshContentHeight();
+        screen.invalidateLayout();
         return content;
     }
+
+    /**
+     * Retrieve the width to wrap the message to, based on the widget and screen dimensions
+     *
+     * @param screen The Screen instance we're rendering to
+     * @return the width to wrap the message to
+     */
+    protected int getWrapWidth(final ExtendedScreen screen) {
+        int padding = 0, barWidth = 0;
+        if (screen instanceof ScrollPane pane) {
+            padding = pane.getPadding();
+            barWidth = pane.getScrollBarWidth();
+        }
+        return MathUtils.clamp((getControlWidth() - getControlPosX()) - (padding * 2) - barWidth, 0, screen.getMaxWidth());
+    }
 }
@@ -208,6 +208,7 @@ public class TextWidget extends ExtendedTextControl {
             titleLeft = middle - 180; // Left; Title Text (Offset: +3)
             titleRight = middle - 6; // Left; Textbox (Offset: -6)
             setDimensions = true;
+            screen.invalidateLayout();
         }
         super.preDraw(screen);
     }
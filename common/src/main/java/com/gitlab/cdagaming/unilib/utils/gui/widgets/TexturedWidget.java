@@ -37,6 +37,10 @@ import java.util.function.Supplier;
  * @author CDAGaming
  */
 public class TexturedWidget implements DynamicWidget {
+    /**
+     * The packed ARGB color to render the border of this widget with
+     */
+    private static final int BORDER_COLOR = 0xFF000000;
     /**
      * The starting X position of the widget
      */
@@ -116,9 +120,9 @@ public class TexturedWidget implements DynamicWidget {
                     getControlPosX() - 1, getControlPosY() - 1,
                     getControlWidth() + 2, getControlHeight() + 2,
                     300,
-                    "#000000", "#000000",
+                    BORDER_COLOR, BORDER_COLOR,
                     1,
-                    null, null
+                    0, 0
             );
         }
         screen.drawBackground(
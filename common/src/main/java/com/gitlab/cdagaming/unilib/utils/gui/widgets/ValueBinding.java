@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui.widgets;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Binds a computed value to a target, recomputing it only when one of its dependencies changes
+ * <p>
+ * Dependencies are cheap accessors, such as fields or an {@link ObservableValue#get()}, and are compared
+ * against their previous values during {@link ValueBinding#update()}. The value is only recomputed when a
+ * dependency has changed, and the target is only supplied a value differing from the previous value.
+ *
+ * @param <T> The value type
+ * @author CDAGaming
+ */
+public class ValueBinding<T> {
+    /**
+     * The function used to compute the value
+     */
+    private final Supplier<? extends T> source;
+    /**
+     * The target to supply the computed value to
+     */
+    private final Consumer<? super T> target;
+    /**
+     * The dependencies of the computed value
+     */
+    private final Supplier<?>[] dependencies;
+    /**
+     * The values of each dependency, as of the last computation
+     */
+    private final Object[] lastDependencies;
+    /**
+     * The last computed value
+     */
+    private T value;
+    /**
+     * Whether the value must be recomputed upon the next update
+     */
+    private boolean dirty = true;
+
+    /**
+     * Initializes a new value binding
+     *
+     * @param source       The function used to compute the value
+     * @param target       The target to supply the computed value to
+     * @param dependencies The dependencies of the computed value
+     */
+    public ValueBinding(final Supplier<? extends T> source, final Consumer<? super T> target, final Supplier<?>... dependencies) {
+        this.source = source;
+        this.target = target;
+        this.dependencies = dependencies.clone();
+        this.lastDependencies = new Object[dependencies.length];
+    }
+
+    /**
+     * Recompute the value if any dependency has changed, supplying it to the target if it differs
+     *
+     * @return {@link Boolean#TRUE} if the target was supplied a new value
+     */
+    public boolean update() {
+        boolean changed = dirty;
+        for (int i = 0; i < dependencies.length; i++) {
+            final Object current = dependencies[i].get();
+            if (!Objects.equals(current, lastDependencies[i])) {
+                lastDependencies[i] = current;
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return false;
+        }
+
+        final boolean isFirst = dirty;
+        dirty = false;
+        final T newValue = source.get();
+        if (isFirst || !Objects.equals(newValue, value)) {
+            value = newValue;
+            target.accept(newValue);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Force the value to be recomputed and supplied to the target upon the next update
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Retrieve the last computed value
+     *
+     * @return the last computed value
+     */
+    public T get() {
+        return value;
+    }
+}
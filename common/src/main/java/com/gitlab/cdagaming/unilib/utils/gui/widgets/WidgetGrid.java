@@ -0,0 +1,472 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui.widgets;
+
+import io.github.cdagaming.unicore.utils.MathUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Uniform Grid Index over {@link DynamicWidget} bounds, used for mouse hit-testing
+ * <p>
+ * Each widget is stored within every grid cell its bounds overlap, so that a point lookup
+ * only checks the widgets sharing its cell. The bounds of every widget are re-checked during {@link WidgetGrid#refresh()},
+ * so that widgets moved through any means remain indexed at their current position, and widgets are only
+ * re-bucketed when their bounds have changed.
+ * <p>
+ * Moving every widget at once, such as when scrolling, is tracked as a query offset
+ * through {@link WidgetGrid#translate(int, int)}, rather than re-bucketing each widget.
+ * <p>
+ * This index only interprets widget bounds, and does not depend on a running game instance.
+ *
+ * @author CDAGaming
+ */
+public class WidgetGrid {
+    /**
+     * The bit shift converting a coordinate to a cell coordinate (32-pixel cells)
+     */
+    private static final int CELL_SHIFT = 5;
+    /**
+     * The maximum amount of cells a widget may occupy before it is checked on every lookup instead
+     */
+    private static final int MAX_WIDGET_CELLS = 64;
+    /**
+     * The initial capacity of the cell table, which must be a power of two
+     */
+    private static final int INITIAL_CELL_CAPACITY = 16;
+    /**
+     * The indexed bounds of each widget
+     */
+    private final Map<DynamicWidget, Bounds> indexedBounds = new IdentityHashMap<>();
+    /**
+     * The indexed bounds of each widget, in the order they were added
+     */
+    private final List<Bounds> entries = StringUtils.newArrayList();
+    /**
+     * The widgets too large to be stored within individual cells
+     */
+    private final List<DynamicWidget> oversized = StringUtils.newArrayList();
+    /**
+     * The keys of the cell table, using open addressing
+     */
+    private long[] cellKeys = new long[INITIAL_CELL_CAPACITY];
+    /**
+     * The widgets occupying each cell of the cell table, or null for unused slots
+     */
+    private List<DynamicWidget>[] cellValues = newCellArray(INITIAL_CELL_CAPACITY);
+    /**
+     * The amount of used slots within the cell table
+     */
+    private int cellCount = 0;
+    /**
+     * The horizontal distance every widget has moved since it was indexed
+     */
+    private int offsetX = 0;
+    /**
+     * The vertical distance every widget has moved since it was indexed
+     */
+    private int offsetY = 0;
+    /**
+     * The order to assign to the next added widget
+     */
+    private int nextOrder = 0;
+
+    /**
+     * Retrieve the key for the specified cell coordinates
+     *
+     * @param cellX The cell X coordinate
+     * @param cellY The cell Y coordinate
+     * @return the key for the specified cell
+     */
+    private static long getCellKey(final int cellX, final int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Retrieve the starting slot for the specified key within a cell table of the specified capacity
+     *
+     * @param key      The cell key to interpret
+     * @param capacity The capacity of the cell table
+     * @return the starting slot for the key
+     */
+    private static int getCellSlot(final long key, final int capacity) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+    }
+
+    /**
+     * Create a cell value array of the specified length
+     *
+     * @param length The length of the array
+     * @return the new cell value array
+     */
+    @SuppressWarnings("unchecked")
+    private static List<DynamicWidget>[] newCellArray(final int length) {
+        return (List<DynamicWidget>[]) new List<?>[length];
+    }
+
+    /**
+     * Add the specified widget to this index, if not already present
+     *
+     * @param widget The widget to add
+     */
+    public void add(final DynamicWidget widget) {
+        if (!indexedBounds.containsKey(widget)) {
+            final Bounds bounds = new Bounds(widget, nextOrder++);
+            indexedBounds.put(widget, bounds);
+            entries.add(bounds);
+            insert(widget, bounds);
+        }
+    }
+
+    /**
+     * Remove the specified widget from this index, if present
+     *
+     * @param widget The widget to remove
+     */
+    public void remove(final DynamicWidget widget) {
+        final Bounds bounds = indexedBounds.remove(widget);
+        if (bounds != null) {
+            entries.remove(bounds);
+            detach(widget, bounds);
+        }
+    }
+
+    /**
+     * Remove all widgets from this index
+     */
+    public void clear() {
+        indexedBounds.clear();
+        entries.clear();
+        oversized.clear();
+        Arrays.fill(cellValues, null);
+        cellCount = 0;
+        offsetX = 0;
+        offsetY = 0;
+        nextOrder = 0;
+    }
+
+    /**
+     * Retrieve the amount of widgets within this index
+     *
+     * @return the amount of indexed widgets
+     */
+    public int size() {
+        return indexedBounds.size();
+    }
+
+    /**
+     * Record that every indexed widget has moved by the specified distance, without re-indexing them
+     *
+     * @param deltaX The horizontal distance moved
+     * @param deltaY The vertical distance moved
+     */
+    public void translate(final int deltaX, final int deltaY) {
+        offsetX += deltaX;
+        offsetY += deltaY;
+    }
+
+    /**
+     * Re-index the specified widget, if its bounds have changed since it was last indexed
+     *
+     * @param widget The widget to interpret
+     */
+    public void update(final DynamicWidget widget) {
+        final Bounds bounds = indexedBounds.get(widget);
+        if (bounds != null && bounds.hasChanged(widget, offsetX, offsetY)) {
+            detach(widget, bounds);
+            insert(widget, bounds);
+        }
+    }
+
+    /**
+     * Re-index any widgets whose bounds have changed since they were last indexed
+     * <p>
+     * Widgets do not report their own movement, so every indexed widget is compared against its
+     * indexed bounds here, which is far cheaper than re-bucketing them or hit-testing each widget
+     */
+    public void refresh() {
+        for (int i = 0; i < entries.size(); i++) {
+            final Bounds bounds = entries.get(i);
+            if (bounds.hasChanged(bounds.widget, offsetX, offsetY)) {
+                detach(bounds.widget, bounds);
+                insert(bounds.widget, bounds);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the widgets whose bounds contain the specified point
+     *
+     * @param posX The X coordinate to interpret
+     * @param posY The Y coordinate to interpret
+     * @return the widgets containing the point, in the order they were added
+     */
+    public List<DynamicWidget> getWidgetsAt(final int posX, final int posY) {
+        final List<DynamicWidget> result = StringUtils.newArrayList();
+        collectWidgetsAt(posX, posY, result);
+        return result;
+    }
+
+    /**
+     * Collect the widgets whose bounds contain the specified point into the specified list, replacing its contents
+     *
+     * @param posX   The X coordinate to interpret
+     * @param posY   The Y coordinate to interpret
+     * @param result The list to collect the widgets into, in the order they were added
+     */
+    public void collectWidgetsAt(final int posX, final int posY, final List<DynamicWidget> result) {
+        result.clear();
+        final List<DynamicWidget> cell = getCell(getCellKey((posX - offsetX) >> CELL_SHIFT, (posY - offsetY) >> CELL_SHIFT));
+        if (cell != null) {
+            for (int i = 0; i < cell.size(); i++) {
+                final DynamicWidget widget = cell.get(i);
+                if (isWithin(posX, posY, widget)) {
+                    result.add(widget);
+                }
+            }
+        }
+        for (int i = 0; i < oversized.size(); i++) {
+            final DynamicWidget widget = oversized.get(i);
+            if (isWithin(posX, posY, widget)) {
+                result.add(widget);
+            }
+        }
+        sortByOrder(result);
+    }
+
+    /**
+     * Determines if the specified point is within the bounds of the specified widget
+     * <p>
+     * This matches {@code RenderUtils#isMouseOver(double, double, DynamicWidget)}, excluding the last row and column
+     *
+     * @param posX   The X coordinate to interpret
+     * @param posY   The Y coordinate to interpret
+     * @param widget The widget to interpret
+     * @return {@link Boolean#TRUE} if the point is within the widget
+     */
+    private static boolean isWithin(final int posX, final int posY, final DynamicWidget widget) {
+        final int left = widget.getControlPosX();
+        final int top = widget.getControlPosY();
+        return MathUtils.isWithinValue(posX, left, left + widget.getControlWidth() - 1, true, false) &&
+                MathUtils.isWithinValue(posY, top, top + widget.getControlHeight() - 1, true, false);
+    }
+
+    /**
+     * Sort the specified widgets by the order they were added, using an insertion sort for these small lists
+     *
+     * @param widgets The widgets to sort
+     */
+    private void sortByOrder(final List<DynamicWidget> widgets) {
+        for (int i = 1; i < widgets.size(); i++) {
+            final DynamicWidget widget = widgets.get(i);
+            final int order = indexedBounds.get(widget).order;
+            int j = i - 1;
+            while (j >= 0 && indexedBounds.get(widgets.get(j)).order > order) {
+                widgets.set(j + 1, widgets.get(j));
+                j--;
+            }
+            widgets.set(j + 1, widget);
+        }
+    }
+
+    /**
+     * Retrieve the widgets occupying the specified cell
+     *
+     * @param key The cell key to interpret
+     * @return the widgets occupying the cell, or null if none
+     */
+    private List<DynamicWidget> getCell(final long key) {
+        final int mask = cellKeys.length - 1;
+        for (int slot = getCellSlot(key, cellKeys.length); cellValues[slot] != null; slot = (slot + 1) & mask) {
+            if (cellKeys[slot] == key) {
+                return cellValues[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieve the widgets occupying the specified cell, creating the cell if needed
+     * <p>
+     * Emptied cells are kept until the index is cleared, as widgets commonly return to them
+     *
+     * @param key The cell key to interpret
+     * @return the widgets occupying the cell
+     */
+    private List<DynamicWidget> getOrCreateCell(final long key) {
+        final List<DynamicWidget> existing = getCell(key);
+        if (existing != null) {
+            return existing;
+        }
+        if ((cellCount + 1) * 2 > cellKeys.length) {
+            resizeCells(cellKeys.length * 2);
+        }
+        final List<DynamicWidget> cell = StringUtils.newArrayList();
+        putCell(cellKeys, cellValues, key, cell);
+        cellCount++;
+        return cell;
+    }
+
+    /**
+     * Grow the cell table to the specified capacity, re-inserting every cell
+     *
+     * @param capacity The new capacity, which must be a power of two
+     */
+    private void resizeCells(final int capacity) {
+        final long[] keys = new long[capacity];
+        final List<DynamicWidget>[] values = newCellArray(capacity);
+        for (int slot = 0; slot < cellKeys.length; slot++) {
+            if (cellValues[slot] != null) {
+                putCell(keys, values, cellKeys[slot], cellValues[slot]);
+            }
+        }
+        cellKeys = keys;
+        cellValues = values;
+    }
+
+    /**
+     * Insert a cell into the specified cell table, which must not already contain its key
+     *
+     * @param keys   The keys of the cell table
+     * @param values The values of the cell table
+     * @param key    The cell key to insert
+     * @param cell   The widgets occupying the cell
+     */
+    private static void putCell(final long[] keys, final List<DynamicWidget>[] values, final long key, final List<DynamicWidget> cell) {
+        final int mask = keys.length - 1;
+        int slot = getCellSlot(key, keys.length);
+        while (values[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = cell;
+    }
+
+    /**
+     * Store the specified widget within the cells overlapped by its current bounds
+     *
+     * @param widget The widget to interpret
+     * @param bounds The indexed bounds of the widget
+     */
+    private void insert(final DynamicWidget widget, final Bounds bounds) {
+        bounds.update(widget, offsetX, offsetY);
+        if (bounds.isOversized()) {
+            oversized.add(widget);
+        } else {
+            for (int cellX = bounds.minCellX; cellX <= bounds.maxCellX; cellX++) {
+                for (int cellY = bounds.minCellY; cellY <= bounds.maxCellY; cellY++) {
+                    getOrCreateCell(getCellKey(cellX, cellY)).add(widget);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the specified widget from the cells overlapped by its indexed bounds
+     *
+     * @param widget The widget to interpret
+     * @param bounds The indexed bounds of the widget
+     */
+    private void detach(final DynamicWidget widget, final Bounds bounds) {
+        if (bounds.isOversized()) {
+            oversized.remove(widget);
+        } else {
+            for (int cellX = bounds.minCellX; cellX <= bounds.maxCellX; cellX++) {
+                for (int cellY = bounds.minCellY; cellY <= bounds.maxCellY; cellY++) {
+                    final List<DynamicWidget> cell = getCell(getCellKey(cellX, cellY));
+                    if (cell != null) {
+                        cell.remove(widget);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The bounds a widget was last indexed with, relative to the query offset at that time
+     */
+    private static final class Bounds {
+        /**
+         * The widget these bounds belong to
+         */
+        private final DynamicWidget widget;
+        /**
+         * The order in which the widget was added
+         */
+        private final int order;
+        private int posX, posY, width, height;
+        private int minCellX, minCellY, maxCellX, maxCellY;
+
+        private Bounds(final DynamicWidget widget, final int order) {
+            this.widget = widget;
+            this.order = order;
+        }
+
+        /**
+         * Retrieve whether the specified widget no longer matches these bounds
+         *
+         * @param widget  The widget to interpret
+         * @param offsetX The current horizontal query offset
+         * @param offsetY The current vertical query offset
+         * @return {@link Boolean#TRUE} if the widget has moved or been resized
+         */
+        private boolean hasChanged(final DynamicWidget widget, final int offsetX, final int offsetY) {
+            return widget.getControlPosX() - offsetX != posX || widget.getControlPosY() - offsetY != posY ||
+                    widget.getControlWidth() != width || widget.getControlHeight() != height;
+        }
+
+        /**
+         * Update these bounds, and the overlapped cells, from the specified widget
+         *
+         * @param widget  The widget to interpret
+         * @param offsetX The current horizontal query offset
+         * @param offsetY The current vertical query offset
+         */
+        private void update(final DynamicWidget widget, final int offsetX, final int offsetY) {
+            posX = widget.getControlPosX() - offsetX;
+            posY = widget.getControlPosY() - offsetY;
+            width = widget.getControlWidth();
+            height = widget.getControlHeight();
+            minCellX = posX >> CELL_SHIFT;
+            minCellY = posY >> CELL_SHIFT;
+            maxCellX = (posX + Math.max(0, width - 1)) >> CELL_SHIFT;
+            maxCellY = (posY + Math.max(0, height - 1)) >> CELL_SHIFT;
+        }
+
+        /**
+         * Retrieve whether these bounds overlap too many cells to be stored individually
+         *
+         * @return {@link Boolean#TRUE} if the bounds are oversized
+         */
+        private boolean isOversized() {
+            return (long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) > MAX_WIDGET_CELLS;
+        }
+    }
+}
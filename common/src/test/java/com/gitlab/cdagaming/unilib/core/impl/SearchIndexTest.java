@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link SearchIndex}
+ *
+ * @author CDAGaming
+ */
+class SearchIndexTest {
+    private static final List<String> ITEMS = List.of(
+            "Key Bindings", "Keyboard Layout", "Mouse Settings", "Video Settings", "key bindings", "Key Bindings"
+    );
+
+    @Test
+    void removesDuplicateItems() {
+        final SearchIndex index = new SearchIndex(ITEMS);
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void emptyQueryMatchesEverything() {
+        final SearchIndex index = new SearchIndex(ITEMS);
+        assertEquals(List.of("Key Bindings", "Keyboard Layout", "Mouse Settings", "Video Settings", "key bindings"), index.search(""));
+        assertEquals(index.search(""), index.search(null));
+    }
+
+    @Test
+    void matchesIgnoringCase() {
+        final SearchIndex index = new SearchIndex(ITEMS);
+        assertEquals(List.of("Mouse Settings", "Video Settings"), index.search("SETTINGS"));
+        assertEquals(List.of("Key Bindings", "Keyboard Layout", "key bindings"), index.search("ke"));
+    }
+
+    @Test
+    void incrementalQueriesMatchFreshQueries() {
+        final SearchIndex incremental = new SearchIndex(ITEMS);
+        final String query = "key bind";
+        for (int i = 1; i <= query.length(); i++) {
+            final String prefix = query.substring(0, i);
+            assertEquals(new SearchIndex(ITEMS).search(prefix), incremental.search(prefix), prefix);
+        }
+        assertEquals(List.of("Key Bindings", "key bindings"), incremental.search(query));
+    }
+
+    @Test
+    void narrowingAfterUnrelatedQueryIsCorrect() {
+        final SearchIndex index = new SearchIndex(ITEMS);
+        assertTrue(index.search("xyz").isEmpty());
+        assertEquals(List.of("Video Settings"), index.search("video"));
+        assertEquals(List.of("Mouse Settings", "Video Settings"), index.search("set"));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link TrackedList}
+ *
+ * @author CDAGaming
+ */
+class TrackedListTest {
+    @Test
+    void addsAndRemovesAtBothEnds() {
+        final TrackedList<String> list = new TrackedList<>();
+        for (int i = 0; i < 40; i++) {
+            list.add("b" + i);
+            list.addFirst("a" + i);
+        }
+        assertEquals(80, list.size());
+        assertEquals("a39", list.getFirst());
+        assertEquals("b39", list.getLast());
+        assertEquals(0, list.indexOf("a39"));
+        assertEquals(79, list.indexOf("b39"));
+
+        assertEquals("a39", list.removeFirst());
+        assertEquals("b39", list.removeLast());
+        assertEquals(0, list.indexOf("a38"));
+        assertEquals(-1, list.indexOf("a39"));
+        assertEquals(77, list.indexOf("b38"));
+    }
+
+    @Test
+    void wrapsAroundTheRingBuffer() {
+        final TrackedList<Integer> list = new TrackedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+            if (list.size() > 10) {
+                list.removeFirst();
+            }
+        }
+        assertEquals(List.of(990, 991, 992, 993, 994, 995, 996, 997, 998, 999), list);
+        assertEquals(5, list.indexOf(995));
+        assertFalse(list.contains(989));
+    }
+
+    @Test
+    void runsInsertEventForEachPlacedEntry() {
+        final List<String> inserted = new ArrayList<>();
+        final TrackedList<String> list = new TrackedList<>(inserted::add);
+        list.add("a");
+        list.addFirst("b");
+        list.set(0, "c");
+        list.replaceRange(0, 1, List.of("d", "e"));
+        assertEquals(List.of("a", "b", "c", "d", "e"), inserted);
+        assertEquals(List.of("d", "e", "a"), list);
+    }
+
+    @Test
+    void replaceRangeKeepsOuterEntries() {
+        final TrackedList<String> list = new TrackedList<>();
+        list.addAll(List.of("a", "b", "c", "d", "e"));
+        final int modCount = list.getModCount();
+
+        list.replaceRange(1, 4, List.of("x"));
+        assertEquals(List.of("a", "x", "e"), list);
+        assertEquals(1, list.indexOf("x"));
+        assertEquals(2, list.indexOf("e"));
+        assertTrue(list.getModCount() > modCount);
+
+        list.replaceRange(0, 3, List.of("e", "x", "a"));
+        assertEquals(List.of("e", "x", "a"), list);
+        assertEquals(2, list.indexOf("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.replaceRange(2, 4, List.of()));
+    }
+
+    @Test
+    void findsFirstOccurrenceOfDuplicates() {
+        final TrackedList<String> list = new TrackedList<>();
+        list.addAll(List.of("a", "b", "a", "c"));
+        assertEquals(0, list.indexOf("a"));
+        list.removeFirst();
+        assertEquals(1, list.indexOf("a"));
+        list.addFirst("a");
+        assertEquals(0, list.indexOf("a"));
+        assertTrue(list.remove("a"));
+        assertEquals(List.of("b", "a", "c"), list);
+    }
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        final Random random = new Random(42);
+        final TrackedList<Integer> list = new TrackedList<>();
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            final int value = random.nextInt(64);
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    list.addFirst(value);
+                    expected.addFirst(value);
+                }
+                case 2 -> {
+                    final int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        final int index = random.nextInt(expected.size());
+                        assertEquals(expected.remove(index), list.remove(index));
+                    }
+                }
+                case 4 -> assertEquals(expected.remove((Integer) value), list.remove((Integer) value));
+                default -> assertEquals(expected.indexOf(value), list.indexOf(value));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected, list);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link GlyphWidthTable}
+ *
+ * @author CDAGaming
+ */
+class GlyphWidthTableTest {
+    /**
+     * A width table where every character is 6 pixels wide, except spaces and formatting characters
+     */
+    private static final GlyphWidthTable TABLE = new GlyphWidthTable(
+            character -> character == '§' ? -1 : character == ' ' ? 4 : 6, 9, false
+    );
+
+    @Test
+    void measuresStringsSkippingFormatting() {
+        assertEquals(0, TABLE.getStringWidth(""));
+        assertEquals(16, TABLE.getStringWidth("a b"));
+        assertEquals(16, TABLE.getStringWidth("§ca §rb"));
+        // Bold characters are one pixel wider
+        assertEquals(13, TABLE.getStringWidth("§la§rb"));
+        assertEquals(-1, TABLE.getCharWidth('§'));
+        assertEquals(9, TABLE.getFontHeight());
+    }
+
+    @Test
+    void measuresStyledTextLikeStrings() {
+        final String source = "§6Gold §lbold§r text";
+        assertEquals(TABLE.getStringWidth(source), TABLE.getStringWidth(StyledText.parse(source)));
+    }
+
+    @Test
+    void wrapsAtLastSpace() {
+        assertEquals(List.of("aaa bbb", "ccc"), TABLE.listFormattedStringToWidth("aaa bbb ccc", 40));
+        assertEquals(List.of("aaa", "bbb", "ccc"), TABLE.listFormattedStringToWidth("aaa bbb ccc", 20));
+    }
+
+    @Test
+    void wrapsWithoutSpaces() {
+        assertEquals(List.of("aaa", "aaa", "a"), TABLE.listFormattedStringToWidth("aaaaaaa", 18));
+    }
+
+    @Test
+    void wrapsAtLineBreaks() {
+        assertEquals(List.of("a", "", "b"), TABLE.listFormattedStringToWidth("a\n\nb", 100));
+    }
+
+    @Test
+    void carriesStyleOntoWrappedLines() {
+        assertEquals(List.of("§caaa", "§cbbb"), TABLE.listFormattedStringToWidth("§caaa bbb", 20));
+        assertEquals(List.of("§c§laa", "§c§lbb"), TABLE.listFormattedStringToWidth("§c§laa bb", 20));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ScissorStack}
+ *
+ * @author CDAGaming
+ */
+class ScissorStackTest {
+    @Test
+    void pushesFirstAreaDirectly() {
+        final ScissorStack stack = new ScissorStack();
+        assertTrue(stack.isEmpty());
+        assertNull(stack.peek());
+
+        stack.push(10, 20, 110, 220);
+        assertEquals(1, stack.size());
+        assertBounds(stack, 10, 20, 110, 220);
+    }
+
+    @Test
+    void intersectsNestedAreas() {
+        final ScissorStack stack = new ScissorStack();
+        stack.push(0, 0, 100, 100);
+        stack.push(50, -10, 150, 60);
+        assertBounds(stack, 50, 0, 100, 60);
+
+        assertTrue(stack.popBounds());
+        assertBounds(stack, 0, 0, 100, 100);
+        assertFalse(stack.popBounds());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void pushesEmptyAreaWithoutIntersection() {
+        final ScissorStack stack = new ScissorStack();
+        stack.push(0, 0, 10, 10);
+        stack.push(20, 20, 30, 30);
+        assertBounds(stack, 0, 0, 0, 0);
+        // Anything nested within an empty area stays empty
+        stack.push(0, 0, 10, 10);
+        assertBounds(stack, 0, 0, 0, 0);
+    }
+
+    @Test
+    void growsBeyondDefaultCapacity() {
+        final ScissorStack stack = new ScissorStack();
+        for (int i = 0; i < 32; i++) {
+            stack.push(i, i, 100 - i, 100 - i);
+        }
+        assertEquals(32, stack.size());
+        assertBounds(stack, 31, 31, 69, 69);
+        for (int i = 31; i > 0; i--) {
+            stack.popBounds();
+            assertBounds(stack, i - 1, i - 1, 101 - i, 101 - i);
+        }
+    }
+
+    @Test
+    void throwsOnUnderflow() {
+        final ScissorStack stack = new ScissorStack();
+        assertThrows(IllegalStateException.class, stack::popBounds);
+        assertThrows(IllegalStateException.class, stack::pop);
+    }
+
+    private static void assertBounds(final ScissorStack stack, final int left, final int top, final int right, final int bottom) {
+        assertEquals(left, stack.getLeft());
+        assertEquals(top, stack.getTop());
+        assertEquals(right, stack.getRight());
+        assertEquals(bottom, stack.getBottom());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ScissorState}, recording the scissor call sequence without a GL context
+ *
+ * @author CDAGaming
+ */
+class ScissorStateTest {
+    private static final int SCALE = 2;
+    private static final int DISPLAY_HEIGHT = 480;
+
+    private final List<String> calls = new ArrayList<>();
+    private final ScissorStack stack = new ScissorStack();
+    private final ScissorState state = new ScissorState(new ScissorState.Target() {
+        @Override
+        public void enable() {
+            calls.add("enable");
+        }
+
+        @Override
+        public void disable() {
+            calls.add("disable");
+        }
+
+        @Override
+        public void setBox(final int x, final int y, final int width, final int height) {
+            calls.add("box " + x + " " + y + " " + width + " " + height);
+        }
+    });
+
+    @AfterEach
+    void disableStats() {
+        RenderStats.setEnabled(false);
+    }
+
+    private void push(final int left, final int top, final int right, final int bottom) {
+        stack.push(left, top, right, bottom);
+        state.apply(stack, SCALE, DISPLAY_HEIGHT);
+    }
+
+    private void pop() {
+        stack.popBounds();
+        state.apply(stack, SCALE, DISPLAY_HEIGHT);
+    }
+
+    @Test
+    void enablesAndSetsBoxOnFirstPush() {
+        push(10, 20, 110, 70);
+        assertTrue(state.isEnabled());
+        // The box is flipped to start from the bottom of the display, and scaled
+        assertEquals(List.of("enable", "box 20 340 200 100"), calls);
+    }
+
+    @Test
+    void disablesOncePoppedEmpty() {
+        push(10, 20, 110, 70);
+        pop();
+        assertFalse(state.isEnabled());
+        assertEquals(List.of("enable", "box 20 340 200 100", "disable"), calls);
+
+        // Applying an empty stack again leaves the disabled state untouched
+        state.apply(stack, SCALE, DISPLAY_HEIGHT);
+        assertEquals(3, calls.size());
+    }
+
+    @Test
+    void skipsUnchangedBoxForNestedAreas() {
+        push(0, 0, 100, 100);
+        // Fully containing the current area intersects to the same box
+        push(-50, -50, 150, 150);
+        pop();
+        assertEquals(List.of("enable", "box 0 280 200 200"), calls);
+    }
+
+    @Test
+    void setsBoxWithoutEnablingForNestedChanges() {
+        push(0, 0, 100, 100);
+        push(10, 10, 50, 50);
+        pop();
+        assertEquals(List.of(
+                "enable", "box 0 280 200 200",
+                "box 20 380 80 80",
+                "box 0 280 200 200"
+        ), calls);
+    }
+
+    @Test
+    void setsEmptyBoxWithoutIntersection() {
+        push(0, 0, 10, 10);
+        push(20, 20, 30, 30);
+        assertEquals("box 0 480 0 0", calls.getLast());
+        assertTrue(state.isEnabled());
+    }
+
+    @Test
+    void countsOnlyAppliedChanges() {
+        RenderStats.setEnabled(true);
+        final long startTime = RenderStats.beginFrame();
+        push(0, 0, 100, 100);
+        push(-50, -50, 150, 150);
+        pop();
+        pop();
+        RenderStats.endFrame("test", startTime);
+        assertEquals(2, RenderStats.getCount(RenderStats.Counter.SCISSOR_CHANGES));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link StyledText}
+ *
+ * @author CDAGaming
+ */
+class StyledTextTest {
+    @Test
+    void parsesEmptyInput() {
+        assertSame(StyledText.EMPTY, StyledText.parse(""));
+        assertSame(StyledText.EMPTY, StyledText.parse(null));
+        assertEquals(0, StyledText.EMPTY.size());
+    }
+
+    @Test
+    void parsesPlainText() {
+        final StyledText text = StyledText.parse("Hello World");
+        assertFalse(text.isFormatted());
+        assertEquals("Hello World", text.plainText());
+        assertEquals(1, text.size());
+        assertFalse(text.getRun(0).isFormatted());
+    }
+
+    @Test
+    void splitsRunsAtFormattingCodes() {
+        final StyledText text = StyledText.parse("§cRed §lBold§r Plain");
+        assertTrue(text.isFormatted());
+        assertEquals("Red Bold Plain", text.plainText());
+        assertEquals(3, text.size());
+
+        final TextRun red = text.getRun(0);
+        assertEquals('c', red.colorCode());
+        assertFalse(red.bold());
+        assertEquals("Red ", text.source().substring(red.start(), red.end()));
+
+        final TextRun bold = text.getRun(1);
+        assertEquals('c', bold.colorCode());
+        assertTrue(bold.bold());
+        assertEquals("§c§l", bold.getFormatPrefix());
+
+        final TextRun plain = text.getRun(2);
+        assertFalse(plain.isFormatted());
+        assertEquals("", plain.getFormatPrefix());
+    }
+
+    @Test
+    void colorCodeResetsStyles() {
+        final StyledText text = StyledText.parse("§l§oStyled§aGreen");
+        assertTrue(text.getRun(0).bold());
+        assertTrue(text.getRun(0).italic());
+        assertFalse(text.getRun(1).bold());
+        assertFalse(text.getRun(1).italic());
+        assertEquals('a', text.getRun(1).colorCode());
+    }
+
+    @Test
+    void hidesTrailingAndUnknownCodes() {
+        assertEquals("AB", StyledText.parse("A§zB§").plainText());
+    }
+
+    @Test
+    void comparesBySource() {
+        final StyledText text = StyledText.parse("§cRed");
+        assertEquals(text, StyledText.parse("§cRed"));
+        assertEquals(text.hashCode(), StyledText.parse("§cRed").hashCode());
+        assertNotEquals(text, StyledText.parse("§aRed"));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the per-frame draw path of {@link TooltipLayout}
+ *
+ * @author CDAGaming
+ */
+class TooltipLayoutDrawTest {
+    private static final GlyphWidthTable TABLE = new GlyphWidthTable(
+            character -> character == '§' ? -1 : character == ' ' ? 4 : 6, 9, false
+    );
+
+    private static void recordLine(final int[] positions, final String line, final int posX, final int posY) {
+        positions[positions[0]++] = posX;
+        positions[positions[0]++] = posY;
+    }
+
+    private static void countLine(final long[] counter, final String line, final int posX, final int posY) {
+        counter[0] += posX + posY + line.length();
+    }
+
+    @Test
+    void positionsCenteredLinesAndTitleGap() {
+        final TooltipLayout layout = TooltipLayout.create(TABLE, List.of("aaaa", "aa", "a"), -1, StyledText::parse);
+        final int[] positions = new int[7];
+        positions[0] = 1;
+
+        final int endY = layout.drawLines(positions, 10, 20, 24, 10, true, 2, TooltipLayoutDrawTest::recordLine);
+        assertArrayEquals(new int[]{7, 10, 20, 16, 32, 19, 42}, positions);
+        assertEquals(52, endY);
+    }
+
+    @Test
+    void steadyStateDrawDoesNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        final TooltipLayout layout = TooltipLayout.create(TABLE, List.of("title line", "aaa bbb ccc", "ddd"), 40, StyledText::parse);
+        final long[] counter = new long[1];
+        // Shared by both loops, so linking a second call site is not counted as a draw allocation
+        final TooltipLayout.LineSink<long[]> sink = TooltipLayoutDrawTest::countLine;
+        final long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < 20_000; i++) {
+            layout.drawLines(counter, 4, 4, layout.textWidth(), 10, (i & 1) == 0, 2, sink);
+        }
+
+        // The measurement itself may allocate, so compare against an empty window
+        final long baselineStart = threads.getThreadAllocatedBytes(threadId);
+        final long baseline = threads.getThreadAllocatedBytes(threadId) - baselineStart;
+
+        final long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            layout.drawLines(counter, 4, 4, layout.textWidth(), 10, (i & 1) == 0, 2, sink);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - start;
+
+        assertEquals(baseline, allocated, "drawLines allocated " + (allocated - baseline) + " bytes over 10000 draws");
+    }
+}
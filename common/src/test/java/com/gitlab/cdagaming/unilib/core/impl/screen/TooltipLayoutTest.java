@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.core.impl.screen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link TooltipLayout}
+ *
+ * @author CDAGaming
+ */
+class TooltipLayoutTest {
+    private static final GlyphWidthTable TABLE = new GlyphWidthTable(
+            character -> character == '§' ? -1 : character == ' ' ? 4 : 6, 9, false
+    );
+
+    @Test
+    void measuresUnwrappedLines() {
+        final TooltipLayout layout = TooltipLayout.create(TABLE, List.of("ab", "§cabc"), -1, StyledText::parse);
+        assertEquals(2, layout.size());
+        assertEquals("§cabc", layout.getLine(1));
+        assertEquals(12, layout.getWidth(0));
+        assertEquals(18, layout.getWidth(1));
+        assertEquals(18, layout.textWidth());
+        assertEquals(1, layout.titleLinesCount());
+    }
+
+    @Test
+    void wrapsLinesAndCountsTitleLines() {
+        final TooltipLayout layout = TooltipLayout.create(TABLE, List.of("aaa bbb", "ccc"), 20, StyledText::parse);
+        assertEquals(3, layout.size());
+        assertEquals(2, layout.titleLinesCount());
+        assertEquals("bbb", layout.getLine(1));
+        assertEquals(20, layout.wrapWidth());
+    }
+
+    @Test
+    void isIsolatedFromTheSourceList() {
+        final List<String> source = new ArrayList<>(List.of("a", "b"));
+        final TooltipLayout layout = TooltipLayout.create(TABLE, source, -1, StyledText::parse);
+        assertTrue(layout.matches(source, -1));
+
+        source.set(0, "c");
+        assertEquals("a", layout.getLine(0));
+        assertFalse(layout.matches(source, -1));
+        assertThrows(UnsupportedOperationException.class, () -> layout.source().add("d"));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link RetainedGeometry}, recording display list ids without a GL context
+ *
+ * @author CDAGaming
+ */
+class RetainedGeometryTest {
+    private final List<Integer> deleted = new ArrayList<>();
+    private final RetainedGeometry geometry = new RetainedGeometry(deleted::add);
+
+    @Test
+    void replaysCompletedRecording() {
+        assertFalse(geometry.isValid());
+        geometry.validate("screen", 1, 2);
+        geometry.addBatch(7, null);
+        geometry.addBatch(8, null);
+        geometry.finishRecording();
+
+        assertTrue(geometry.isValid());
+        assertEquals(2, geometry.size());
+        assertEquals(7, geometry.getDisplayList(0));
+        assertEquals(8, geometry.getDisplayList(1));
+        assertNull(geometry.getTexture(0));
+        assertTrue(deleted.isEmpty());
+    }
+
+    @Test
+    void keepsRecordingForSameSourceAndState() {
+        geometry.validate("screen", 1, 2);
+        geometry.addBatch(7, null);
+        geometry.finishRecording();
+
+        geometry.validate("screen", 1, 2);
+        assertTrue(geometry.isValid());
+        assertTrue(deleted.isEmpty());
+    }
+
+    @Test
+    void invalidatesOnStateChange() {
+        geometry.validate("screen", 1, 2);
+        geometry.addBatch(7, null);
+        geometry.finishRecording();
+
+        geometry.validate("screen", 1, 3);
+        assertFalse(geometry.isValid());
+        assertEquals(0, geometry.size());
+        assertEquals(List.of(7), deleted);
+    }
+
+    @Test
+    void invalidatesOnSourceChange() {
+        geometry.validate("screen", 1, 2);
+        geometry.addBatch(7, null);
+        geometry.finishRecording();
+
+        geometry.validate("other", 1, 2);
+        assertFalse(geometry.isValid());
+        assertEquals(List.of(7), deleted);
+    }
+
+    @Test
+    void discardsUnretainableRecording() {
+        geometry.validate("screen", 1, 2);
+        geometry.addBatch(7, null);
+        geometry.markUnretainable();
+        geometry.finishRecording();
+
+        assertFalse(geometry.isValid());
+        assertFalse(geometry.isRetainable());
+        assertEquals(List.of(7), deleted);
+
+        // The same source and state is not recorded again, until it changes
+        geometry.validate("screen", 1, 2);
+        assertFalse(geometry.isRetainable());
+        geometry.validate("screen", 1, 3);
+        assertTrue(geometry.isRetainable());
+    }
+
+    @Test
+    void recordsAgainOnHoverChange() {
+        // Button chrome is validated against its bounds, z level and hover state
+        geometry.validate("button", 10, 20, 200, 20, 0, 1);
+        geometry.addBatch(7, null);
+        geometry.finishRecording();
+
+        geometry.validate("button", 10, 20, 200, 20, 0, 2);
+        assertFalse(geometry.isValid());
+        geometry.addBatch(8, null);
+        geometry.finishRecording();
+        assertTrue(geometry.isValid());
+        assertEquals(8, geometry.getDisplayList(0));
+
+        geometry.validate("button", 10, 20, 200, 20, 0, 1);
+        assertFalse(geometry.isValid());
+        assertEquals(List.of(7, 8), deleted);
+    }
+
+    @Test
+    void recordsAgainOnScroll() {
+        // Scrolled backgrounds are validated against their bounds, offset and tint
+        geometry.validate("background", 0, 320, 32, 208, 0, 0.5);
+        geometry.addBatch(7, null);
+        geometry.finishRecording();
+
+        geometry.validate("background", 0, 320, 32, 208, 0, 0.5);
+        assertTrue(geometry.isValid());
+
+        geometry.validate("background", 0, 320, 32, 208, 8, 0.5);
+        assertFalse(geometry.isValid());
+        assertTrue(geometry.isRetainable());
+        assertEquals(List.of(7), deleted);
+    }
+
+    @Test
+    void invalidateDeletesEveryList() {
+        geometry.validate("screen");
+        geometry.addBatch(7, null);
+        geometry.addBatch(8, null);
+        geometry.finishRecording();
+
+        geometry.invalidate();
+        assertFalse(geometry.isValid());
+        assertEquals(List.of(7, 8), deleted);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui.widgets;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ObservableValue}
+ *
+ * @author CDAGaming
+ */
+class ObservableValueTest {
+    @Test
+    void notifiesOnlyOnChange() {
+        final List<String> received = new ArrayList<>();
+        final ObservableValue<String> value = new ObservableValue<>("a");
+        value.bind(received::add);
+
+        assertFalse(value.set("a"));
+        assertTrue(value.set("b"));
+        assertEquals(List.of("a", "b"), received);
+        assertEquals("b", value.get());
+    }
+
+    @Test
+    void listenersMayModifyListenersWhileNotified() {
+        final List<String> received = new ArrayList<>();
+        final ObservableValue<Integer> value = new ObservableValue<>(0);
+        final Consumer<Integer> late = newValue -> received.add("late " + newValue);
+        value.addListener(new Consumer<>() {
+            @Override
+            public void accept(final Integer newValue) {
+                received.add("once " + newValue);
+                value.removeListener(this);
+                value.addListener(late);
+            }
+        });
+
+        value.set(1);
+        value.set(2);
+        assertEquals(List.of("once 1", "late 2"), received);
+
+        assertTrue(value.removeListener(late));
+        assertFalse(value.removeListener(late));
+        value.set(3);
+        assertEquals(2, received.size());
+    }
+
+    @Test
+    void mapsDerivedValues() {
+        final ObservableValue<Integer> value = new ObservableValue<>(2);
+        final ObservableValue<String> mapped = value.map(number -> "x" + number);
+
+        value.set(3);
+        assertEquals("x3", mapped.get());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui.widgets;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ValueBinding}
+ *
+ * @author CDAGaming
+ */
+class ValueBindingTest {
+    @Test
+    void suppliesFirstValueOnce() {
+        final List<String> received = new ArrayList<>();
+        final ValueBinding<String> binding = new ValueBinding<>(() -> "value", received::add);
+
+        assertTrue(binding.update());
+        assertFalse(binding.update());
+        assertEquals(List.of("value"), received);
+        assertEquals("value", binding.get());
+    }
+
+    @Test
+    void recomputesOnlyWhenDependenciesChange() {
+        final AtomicInteger dependency = new AtomicInteger();
+        final AtomicInteger computations = new AtomicInteger();
+        final List<String> received = new ArrayList<>();
+        final ValueBinding<String> binding = new ValueBinding<>(
+                () -> {
+                    computations.incrementAndGet();
+                    return "value " + dependency.get();
+                },
+                received::add,
+                dependency::get
+        );
+
+        binding.update();
+        binding.update();
+        assertEquals(1, computations.get());
+
+        dependency.set(1);
+        assertTrue(binding.update());
+        assertFalse(binding.update());
+        assertEquals(2, computations.get());
+        assertEquals(List.of("value 0", "value 1"), received);
+    }
+
+    @Test
+    void skipsTargetWhenValueIsUnchanged() {
+        final AtomicInteger dependency = new AtomicInteger();
+        final List<Boolean> received = new ArrayList<>();
+        final ValueBinding<Boolean> binding = new ValueBinding<>(
+                () -> dependency.get() > 10, received::add, dependency::get
+        );
+
+        binding.update();
+        dependency.set(5);
+        assertFalse(binding.update());
+        dependency.set(20);
+        assertTrue(binding.update());
+        assertEquals(List.of(false, true), received);
+    }
+
+    @Test
+    void invalidateForcesTargetUpdate() {
+        final List<String> received = new ArrayList<>();
+        final ValueBinding<String> binding = new ValueBinding<>(() -> "value", received::add);
+
+        binding.update();
+        binding.invalidate();
+        assertTrue(binding.update());
+        assertEquals(List.of("value", "value"), received);
+    }
+}
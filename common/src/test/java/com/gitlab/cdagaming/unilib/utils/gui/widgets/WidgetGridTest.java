@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.unilib.utils.gui.widgets;
+
+import com.gitlab.cdagaming.unilib.utils.gui.integrations.ExtendedScreen;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link WidgetGrid}
+ *
+ * @author CDAGaming
+ */
+class WidgetGridTest {
+    @Test
+    void findsOverlappingWidgetsInAddedOrder() {
+        final WidgetGrid grid = new WidgetGrid();
+        final BoxWidget back = new BoxWidget(0, 0, 100, 100);
+        final BoxWidget front = new BoxWidget(40, 40, 20, 20);
+        grid.add(front);
+        grid.add(back);
+
+        assertEquals(List.of(front, back), grid.getWidgetsAt(45, 45));
+        assertEquals(List.of(back), grid.getWidgetsAt(10, 10));
+        assertTrue(grid.getWidgetsAt(150, 150).isEmpty());
+    }
+
+    @Test
+    void reindexesWidgetsMovedWithoutNotice() {
+        final WidgetGrid grid = new WidgetGrid();
+        final BoxWidget widget = new BoxWidget(0, 0, 20, 20);
+        grid.add(widget);
+
+        widget.setControlPosX(300);
+        widget.setControlPosY(200);
+        grid.refresh();
+
+        assertTrue(grid.getWidgetsAt(5, 5).isEmpty());
+        assertEquals(List.of(widget), grid.getWidgetsAt(305, 205));
+    }
+
+    @Test
+    void translatesQueriesWithoutReindexing() {
+        final WidgetGrid grid = new WidgetGrid();
+        final BoxWidget widget = new BoxWidget(0, 100, 20, 20);
+        grid.add(widget);
+
+        widget.setControlPosY(40);
+        grid.translate(0, -60);
+
+        assertEquals(List.of(widget), grid.getWidgetsAt(5, 45));
+        grid.refresh();
+        assertEquals(List.of(widget), grid.getWidgetsAt(5, 45));
+    }
+
+    @Test
+    void findsOversizedAndRemovedWidgets() {
+        final WidgetGrid grid = new WidgetGrid();
+        final BoxWidget oversized = new BoxWidget(0, 0, 4000, 4000);
+        final BoxWidget small = new BoxWidget(10, 10, 10, 10);
+        grid.add(oversized);
+        grid.add(small);
+
+        assertEquals(List.of(oversized, small), grid.getWidgetsAt(12, 12));
+        assertEquals(List.of(oversized), grid.getWidgetsAt(3000, 3000));
+
+        grid.remove(small);
+        assertEquals(List.of(oversized), grid.getWidgetsAt(12, 12));
+        assertEquals(1, grid.size());
+    }
+
+    /**
+     * A widget with plain bounds and no rendering
+     */
+    private static final class BoxWidget implements DynamicWidget {
+        private int posX, posY, width, height;
+
+        private BoxWidget(final int posX, final int posY, final int width, final int height) {
+            this.posX = posX;
+            this.posY = posY;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public void preDraw(final ExtendedScreen screen) {
+        }
+
+        @Override
+        public void draw(final ExtendedScreen screen) {
+        }
+
+        @Override
+        public void postDraw(final ExtendedScreen screen) {
+        }
+
+        @Override
+        public int getControlPosX() {
+            return posX;
+        }
+
+        @Override
+        public void setControlPosX(final int posX) {
+            this.posX = posX;
+        }
+
+        @Override
+        public int getControlPosY() {
+            return posY;
+        }
+
+        @Override
+        public void setControlPosY(final int posY) {
+            this.posY = posY;
+        }
+
+        @Override
+        public int getControlWidth() {
+            return width;
+        }
+
+        @Override
+        public void setControlWidth(final int width) {
+            this.width = width;
+        }
+
+        @Override
+        public int getControlHeight() {
+            return height;
+        }
+
+        @Override
+        public void setControlHeight(final int height) {
+            this.height = height;
+        }
+    }
+}